@@ -0,0 +1,45 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingCreationDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.service.BookingService;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Создание бронирования на случайную вещь в будущем. Каждый вызов добавляет строку в {@code bookings}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BookingCreateBenchmark extends ShareItBenchmarkBase {
+    private static final LocalDateTime FUTURE = LocalDateTime.of(2100, 1, 1, 0, 0);
+
+    private BookingService bookingService;
+
+    @Override
+    protected void init() {
+        bookingService = context.getBean(BookingService.class);
+    }
+
+    @Benchmark
+    public BookingDto createBooking() {
+        LocalDateTime start = FUTURE.plusHours(ThreadLocalRandom.current().nextInt(100 * 365 * 24));
+        return bookingService.createBooking(dataSet.randomUser(),
+                new BookingCreationDto(dataSet.randomItem(), start, start.plusDays(1)));
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.benchmark;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Идентификаторы строк, созданных {@link SyntheticDataGenerator}.
+ */
+@Getter
+@AllArgsConstructor
+public class DataSet {
+    private final long[] userIds;
+    private final long[] itemIds;
+    private final long[] requestIds;
+
+    public long randomUser() {
+        return random(userIds);
+    }
+
+    public long randomItem() {
+        return random(itemIds);
+    }
+
+    private static long random(long[] ids) {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.dto.ItemFullDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Получение случайной вещи случайным пользователем вместе с бронированиями и отзывами.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ItemBenchmark extends ShareItBenchmarkBase {
+    private ItemService itemService;
+
+    @Override
+    protected void init() {
+        itemService = context.getBean(ItemService.class);
+    }
+
+    @Benchmark
+    public ItemFullDto getItem() {
+        return itemService.getItem(dataSet.randomItem(), dataSet.randomUser());
+    }
+}
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сохранение {@code rows} вещей одной транзакцией. Параметр {@code jdbcBatchSize} задает
+ * {@code hibernate.jdbc.batch_size}: {@code 0} — каждая строка отдельным оператором, {@code 50} — пакетами,
+ * как в настройках сервера. Id в обоих случаях берутся из последовательности блоками по 50.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ItemBulkInsertBenchmark extends ShareItBenchmarkBase {
+
+    @Param({"0", "50"})
+    public int jdbcBatchSize;
+
+    @Param("1000")
+    public int rows;
+
+    private ItemRepository itemRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @Override
+    protected List<String> properties() {
+        return List.of("--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize);
+    }
+
+    @Override
+    protected void init() {
+        itemRepository = context.getBean(ItemRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @Benchmark
+    public List<Item> saveItems() {
+        long owner = dataSet.randomUser();
+        List<Item> items = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            items.add(Item.builder().name("Дрель").description("Ударная дрель #" + i).available(true)
+                    .owner(owner).build());
+        }
+        return transactionTemplate.execute(status -> itemRepository.saveAll(items));
+    }
+}
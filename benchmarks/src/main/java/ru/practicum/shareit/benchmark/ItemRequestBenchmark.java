@@ -0,0 +1,46 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.request.dto.ItemRequestAnswerDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Страница всех запросов со случайным смещением вместе с вещами-ответами.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ItemRequestBenchmark extends ShareItBenchmarkBase {
+
+    @Param("20")
+    public int limit;
+
+    private ItemRequestService itemRequestService;
+
+    @Override
+    protected void init() {
+        itemRequestService = context.getBean(ItemRequestService.class);
+    }
+
+    @Benchmark
+    public List<ItemRequestAnswerDto> getAllRequests() {
+        int pages = Math.max(1, dataSet.getRequestIds().length / limit);
+        return itemRequestService.getAllRequests(limit, ThreadLocalRandom.current().nextInt(pages) * limit);
+    }
+}
@@ -0,0 +1,52 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Поиск вещей по подстроке для каждого движка из {@code shareit.search.engine}, кроме postgres.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ItemSearchBenchmark extends ShareItBenchmarkBase {
+
+    @Param({"database", "index"})
+    public String engine;
+
+    @Param({"дрель", "аккумуляторный", "#1234"})
+    public String text;
+
+    private ItemService itemService;
+
+    @Override
+    protected List<String> properties() {
+        return List.of("--shareit.search.engine=" + engine);
+    }
+
+    @Override
+    protected void init() {
+        itemService = context.getBean(ItemService.class);
+    }
+
+    @Benchmark
+    public List<ItemDto> itemSearch() {
+        return itemService.itemSearch(text);
+    }
+}
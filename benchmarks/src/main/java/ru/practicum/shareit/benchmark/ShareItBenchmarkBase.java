@@ -0,0 +1,79 @@
+package ru.practicum.shareit.benchmark;
+
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import ru.practicum.shareit.ShareItServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Общая часть бенчмарков: создает встроенную H2 в памяти, применяет миграции сервера,
+ * заполняет базу {@link SyntheticDataGenerator}
+ * и поднимает контекст сервера без веб-сервера. Данные генерируются до старта контекста,
+ * чтобы компоненты, читающие таблицы при запуске (например, индекс поиска), видели весь набор.
+ * <p>
+ * Размер данных задается параметром {@code scale}: {@code -p scale=1000,100000,1000000}.
+ */
+@State(Scope.Benchmark)
+public abstract class ShareItBenchmarkBase {
+
+    @Param("1000")
+    public int scale;
+
+    protected ConfigurableApplicationContext context;
+    protected DataSet dataSet;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        String url = "jdbc:h2:mem:shareit-bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load().migrate();
+        dataSet = new SyntheticDataGenerator(new JdbcTemplate(dataSource)).generate(scale);
+
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.transaction.interceptor=WARN",
+                "--logging.level.org.springframework.orm.jpa.JpaTransactionManager=WARN"));
+        args.addAll(properties());
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run(args.toArray(String[]::new));
+        init();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        context.close();
+    }
+
+    /**
+     * Дополнительные свойства приложения в виде {@code --name=value}.
+     */
+    protected List<String> properties() {
+        return List.of();
+    }
+
+    /**
+     * Получение бинов после старта контекста.
+     */
+    protected abstract void init();
+}
@@ -0,0 +1,115 @@
+package ru.practicum.shareit.benchmark;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Заполняет пустую схему синтетическими данными. Размер задается числом вещей ({@code scale}),
+ * остальные таблицы масштабируются от него: пользователей и запросов — по {@code scale / 10},
+ * бронирований — {@code scale}, отзывов — {@code scale / 2}.
+ * Генератор использует фиксированное зерно, поэтому одинаковый {@code scale} дает одинаковые данные.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+    private static final long SEED = 42L;
+    private static final int BATCH_SIZE = 1000;
+    private static final int MIN_USERS = 10;
+    private static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final String[] NAMES = {"Дрель", "Велосипед", "Палатка", "Чемодан", "Лодка", "Шуруповерт",
+            "Перфоратор", "Самокат", "Рюкзак", "Мангал", "Стремянка", "Проектор", "Спальник", "Лыжи", "Коньки"};
+    private static final String[] ADJECTIVES = {"Большой", "Ударная", "Горный", "Надувная", "Складной",
+            "Туристический", "Аккумуляторный", "Детский", "Профессиональный", "Новый"};
+    private static final BookingStatus[] STATUSES = BookingStatus.values();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public DataSet generate(int scale) {
+        Random random = new Random(SEED);
+        int users = Math.max(MIN_USERS, scale / 10);
+        int requests = Math.max(1, scale / 10);
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            rows.add(new Object[]{"User " + i, "user" + i + "@bench.local"});
+            flush("INSERT INTO users (name, email) VALUES (?, ?)", rows);
+        }
+        flushAll("INSERT INTO users (name, email) VALUES (?, ?)", rows);
+        long[] userIds = ids("users");
+
+        for (int i = 0; i < requests; i++) {
+            rows.add(new Object[]{"Хочу найти " + NAMES[random.nextInt(NAMES.length)].toLowerCase(),
+                    pick(random, userIds), timestamp(random.nextInt(365 * 24))});
+            flush("INSERT INTO requests (description, requester_id, creation_date) VALUES (?, ?, ?)", rows);
+        }
+        flushAll("INSERT INTO requests (description, requester_id, creation_date) VALUES (?, ?, ?)", rows);
+        long[] requestIds = ids("requests");
+
+        String itemSql = "INSERT INTO items (name, description, is_available, user_id, request_id) VALUES (?, ?, ?, ?, ?)";
+        for (int i = 0; i < scale; i++) {
+            String name = NAMES[random.nextInt(NAMES.length)];
+            String description = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + name.toLowerCase() + " #" + i;
+            rows.add(new Object[]{name, description, random.nextInt(10) != 0, pick(random, userIds),
+                    random.nextInt(10) == 0 ? pick(random, requestIds) : null});
+            flush(itemSql, rows);
+        }
+        flushAll(itemSql, rows);
+        long[] itemIds = ids("items");
+
+        String bookingSql = "INSERT INTO bookings (start_date, end_date, item_id, booker_id, status) VALUES (?, ?, ?, ?, ?)";
+        for (int i = 0; i < scale; i++) {
+            int startHour = random.nextInt(2 * 365 * 24);
+            rows.add(new Object[]{timestamp(startHour), timestamp(startHour + 1 + random.nextInt(14 * 24)),
+                    pick(random, itemIds), pick(random, userIds), STATUSES[random.nextInt(STATUSES.length)].name()});
+            flush(bookingSql, rows);
+        }
+        flushAll(bookingSql, rows);
+
+        String commentSql = "INSERT INTO comments (text, created, item_id, author_id) VALUES (?, ?, ?, ?)";
+        for (int i = 0; i < scale / 2; i++) {
+            rows.add(new Object[]{"Отзыв " + i, timestamp(random.nextInt(365 * 24)), pick(random, itemIds),
+                    pick(random, userIds)});
+            flush(commentSql, rows);
+        }
+        flushAll(commentSql, rows);
+
+        log.info("Сгенерированы данные: {} пользователей, {} запросов, {} вещей, {} бронирований, {} отзывов",
+                users, requests, scale, scale, scale / 2);
+        return new DataSet(userIds, itemIds, requestIds);
+    }
+
+    private void flush(String sql, List<Object[]> rows) {
+        if (rows.size() >= BATCH_SIZE) {
+            flushAll(sql, rows);
+        }
+    }
+
+    private void flushAll(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+
+    private long[] ids(String table) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " ORDER BY id", Long.class).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    private static long pick(Random random, long[] ids) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private static Timestamp timestamp(int hoursFromBase) {
+        return Timestamp.valueOf(BASE_DATE.plusHours(hoursFromBase));
+    }
+}
@@ -2,26 +2,32 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                         ClientHttpRequestFactory requestFactory,
+                         @Value("${shareit-server.passthrough:true}") boolean passthrough) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                passthrough
         );
     }
 
@@ -35,6 +41,10 @@ public class BookingClient extends BaseClient {
 
     }
 
+    public ResponseEntity<Object> updateAll(Long userId, BookingDecisionDto decision) {
+        return patch("/bulk", userId, decision);
+    }
+
     public ResponseEntity<Object> getBookings(Long userId, BookingState state) {
         Map<String, Object> parameters = Map.of(
                 "state", state.name()
@@ -50,7 +60,26 @@ public class BookingClient extends BaseClient {
         return get("/owner?state={state}", ownerId, parameters);
     }
 
+    public ResponseEntity<Object> getBookingsPage(Long userId, BookingState state, String cursor, Integer size) {
+        return getPage("/page", userId, state, cursor, size);
+    }
+
+    public ResponseEntity<Object> getOwnerBookingsPage(Long ownerId, BookingState state, String cursor, Integer size) {
+        return getPage("/owner/page", ownerId, state, cursor, size);
+    }
+
     public ResponseEntity<Object> getBooking(Long userId, Long bookingId) {
         return get("/" + bookingId, userId);
     }
+
+    private ResponseEntity<Object> getPage(String path, Long userId, BookingState state, String cursor, Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state.name());
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get(path + "?state={state}&size={size}", userId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get(path + "?state={state}&size={size}&cursor={cursor}", userId, parameters);
+    }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package ru.practicum.shareit.booking;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -14,6 +17,7 @@ import static ru.practicum.shareit.utils.Constants.USER_ID_HEADER;
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/bookings")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class BookingController {
 
     private final BookingClient bookingClient;
@@ -33,6 +37,13 @@ public class BookingController {
         return bookingClient.update(user, bookingId, approved);
     }
 
+    @PatchMapping("/bulk")
+    public ResponseEntity<Object> updateAll(@RequestHeader(USER_ID_HEADER) Long user,
+                                            @Valid @RequestBody BookingDecisionDto decision) {
+        log.info("Решение {} по бронированиям {}", decision.getApproved(), decision.getBookingIds());
+        return bookingClient.updateAll(user, decision);
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<Object> getBookingById(@RequestHeader(USER_ID_HEADER) Long user,
                                                  @PathVariable("bookingId") Long bookingId) {
@@ -57,4 +68,26 @@ public class BookingController {
         log.info("Владелец вещей {} запрашивает информацию о {} бронированиях", user, state);
         return bookingClient.getAllOwner(user, bookingState);
     }
+
+    @GetMapping("/page")
+    public ResponseEntity<Object> getBookingPageForUser(@RequestHeader(USER_ID_HEADER) Long user,
+                                                        @RequestParam(value = "state", defaultValue = "ALL") String state,
+                                                        @RequestParam(value = "cursor", required = false) String cursor,
+                                                        @Positive @Max(100) @RequestParam(value = "size", defaultValue = "20") Integer size) {
+        BookingState bookingState = BookingState.from(state)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + state));
+        log.info("Пользователь {} запрашивает страницу {} бронирований после {}", user, state, cursor);
+        return bookingClient.getBookingsPage(user, bookingState, cursor, size);
+    }
+
+    @GetMapping("/owner/page")
+    public ResponseEntity<Object> getBookingPageForOwner(@RequestHeader(USER_ID_HEADER) Long user,
+                                                         @RequestParam(value = "state", defaultValue = "ALL") String state,
+                                                         @RequestParam(value = "cursor", required = false) String cursor,
+                                                         @Positive @Max(100) @RequestParam(value = "size", defaultValue = "20") Integer size) {
+        BookingState bookingState = BookingState.from(state)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + state));
+        log.info("Владелец вещей {} запрашивает страницу {} бронирований после {}", user, state, cursor);
+        return bookingClient.getOwnerBookingsPage(user, bookingState, cursor, size);
+    }
 }
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Решение владельца сразу по нескольким бронированиям ({@code PATCH /bookings/bulk}).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingDecisionDto {
+    @NotEmpty(message = "Список бронирований должен быть заполнен")
+    @Size(max = 100, message = "В одном решении не больше 100 бронирований")
+    List<@NotNull(message = "id бронирования должен быть заполнен")
+            @Positive(message = "id бронирования должен быть положительным") Long> bookingIds;
+    @NotNull(message = "Поле approved должно быть заполнено")
+    Boolean approved;
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/bookings";
+
+    public ReactiveBookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(Long userId, BookingDto requestDto) {
+        return post("", userId, requestDto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(Long userId, Long bookingId, Boolean approved) {
+        return patch("/" + bookingId + "?approved={approved}", userId, Map.of("approved", approved), null);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateAll(Long userId, BookingDecisionDto decision) {
+        return patch("/bulk", userId, Map.of(), decision);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookings(Long userId, BookingState state) {
+        return get("?state={state}", userId, Map.of("state", state.name()));
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllOwner(Long ownerId, BookingState state) {
+        return get("/owner?state={state}", ownerId, Map.of("state", state.name()));
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingsPage(Long userId, BookingState state, String cursor,
+                                                                  Integer size) {
+        return getPage("/page", userId, state, cursor, size);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getOwnerBookingsPage(Long ownerId, BookingState state, String cursor,
+                                                                       Integer size) {
+        return getPage("/owner/page", ownerId, state, cursor, size);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBooking(Long userId, Long bookingId) {
+        return get("/" + bookingId, userId);
+    }
+
+    private Mono<ResponseEntity<Flux<DataBuffer>>> getPage(String path, Long userId, BookingState state, String cursor,
+                                                           Integer size) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state.name());
+        parameters.put("size", size);
+        if (cursor == null) {
+            return get(path + "?state={state}&size={size}", userId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get(path + "?state={state}&size={size}&cursor={cursor}", userId, parameters);
+    }
+}
@@ -0,0 +1,96 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static ru.practicum.shareit.utils.Constants.USER_ID_HEADER;
+
+@Slf4j
+@Validated
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/bookings")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingController {
+
+    private final ReactiveBookingClient bookingClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(@RequestHeader(USER_ID_HEADER) Long user,
+                                                         @Valid @RequestBody BookingDto bookingDto) {
+        log.info("Запрос на бронирование {} от пользователя {}", bookingDto, user);
+        return bookingClient.create(user, bookingDto);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(@RequestHeader(USER_ID_HEADER) Long user,
+                                                         @PathVariable("bookingId") Long bookingId,
+                                                         @RequestParam Boolean approved) {
+        log.info("{} бронирование {}", approved ? "Одобрить" : "Отклонить", bookingId);
+        return bookingClient.update(user, bookingId, approved);
+    }
+
+    @PatchMapping("/bulk")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateAll(@RequestHeader(USER_ID_HEADER) Long user,
+                                                            @Valid @RequestBody BookingDecisionDto decision) {
+        log.info("Решение {} по бронированиям {}", decision.getApproved(), decision.getBookingIds());
+        return bookingClient.updateAll(user, decision);
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingById(@RequestHeader(USER_ID_HEADER) Long user,
+                                                                 @PathVariable("bookingId") Long bookingId) {
+        log.info("Пользователь {} запрашивает информацию о бронировании {}", user, bookingId);
+        return bookingClient.getBooking(user, bookingId);
+    }
+
+    @GetMapping()
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllBookingForUser(@RequestHeader(USER_ID_HEADER) Long user,
+                                                                       @RequestParam(value = "state", defaultValue = "ALL") String state) {
+        BookingState bookingState = BookingState.from(state)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + state));
+        log.info("Пользователь {} запрашивает информацию о {} бронированиях", user, state);
+        return bookingClient.getBookings(user, bookingState);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllBookingForOwner(@RequestHeader(USER_ID_HEADER) Long user,
+                                                                        @RequestParam(value = "state", defaultValue = "ALL") String state) {
+        BookingState bookingState = BookingState.from(state)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + state));
+        log.info("Владелец вещей {} запрашивает информацию о {} бронированиях", user, state);
+        return bookingClient.getAllOwner(user, bookingState);
+    }
+
+    @GetMapping("/page")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingPageForUser(@RequestHeader(USER_ID_HEADER) Long user,
+                                                                        @RequestParam(value = "state", defaultValue = "ALL") String state,
+                                                                        @RequestParam(value = "cursor", required = false) String cursor,
+                                                                        @Positive @Max(100) @RequestParam(value = "size", defaultValue = "20") Integer size) {
+        BookingState bookingState = BookingState.from(state)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + state));
+        log.info("Пользователь {} запрашивает страницу {} бронирований после {}", user, state, cursor);
+        return bookingClient.getBookingsPage(user, bookingState, cursor, size);
+    }
+
+    @GetMapping("/owner/page")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getBookingPageForOwner(@RequestHeader(USER_ID_HEADER) Long user,
+                                                                         @RequestParam(value = "state", defaultValue = "ALL") String state,
+                                                                         @RequestParam(value = "cursor", required = false) String cursor,
+                                                                         @Positive @Max(100) @RequestParam(value = "size", defaultValue = "20") Integer size) {
+        BookingState bookingState = BookingState.from(state)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown state: " + state));
+        log.info("Владелец вещей {} запрашивает страницу {} бронирований после {}", user, state, cursor);
+        return bookingClient.getOwnerBookingsPage(user, bookingState, cursor, size);
+    }
+}
@@ -1,18 +1,42 @@
 package ru.practicum.shareit.client;
 
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Блокирующий клиент сервера.
+ * <p>
+ * В режиме passthrough ({@code shareit-server.passthrough=true}) тело ответа сервера не разбирается:
+ * клиенту шлюза возвращается {@link InputStreamResource} поверх открытого ответа сервера со статусом и заголовками
+ * сервера, и байты копируются в ответ шлюза по мере чтения. Соединение с сервером освобождается, когда поток
+ * дочитан и закрыт. Без этого режима ответ разбирается в {@code Object} и сериализуется заново.
+ */
 public class BaseClient {
+    private static final List<String> HOP_BY_HOP_HEADERS = List.of(
+            HttpHeaders.CONNECTION, "Keep-Alive", HttpHeaders.TRANSFER_ENCODING, HttpHeaders.UPGRADE);
+
     protected final RestTemplate rest;
+    private final RestClient restClient;
+    private final boolean passthrough;
 
     public BaseClient(RestTemplate rest) {
+        this(rest, false);
+    }
+
+    public BaseClient(RestTemplate rest, boolean passthrough) {
         this.rest = rest;
+        this.restClient = RestClient.create(rest);
+        this.passthrough = passthrough;
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -76,6 +100,9 @@ public class BaseClient {
     }
 
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        if (passthrough) {
+            return sendAndStreamResponse(method, path, userId, parameters, body);
+        }
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
 
         ResponseEntity<Object> shareitServerResponse;
@@ -91,7 +118,26 @@ public class BaseClient {
         return prepareGatewayResponse(shareitServerResponse);
     }
 
-    private HttpHeaders defaultHeaders(Long userId) {
+    private <T> ResponseEntity<Object> sendAndStreamResponse(HttpMethod method, String path, Long userId,
+                                                            @Nullable Map<String, Object> parameters, @Nullable T body) {
+        RestClient.RequestBodySpec request = restClient.method(method)
+                .uri(path, parameters != null ? parameters : Map.of())
+                .headers(headers -> headers.addAll(defaultHeaders(userId)));
+        if (body != null) {
+            request.body(body);
+        }
+        // ответ не закрывается здесь: его закроет поток тела после копирования в ответ шлюза
+        return request.exchange((clientRequest, response) -> {
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(response.getHeaders());
+            HOP_BY_HOP_HEADERS.forEach(headers::remove);
+            return ResponseEntity.status(response.getStatusCode())
+                    .headers(headers)
+                    .body(new InputStreamResource(new ResponseBodyStream(response)));
+        }, false);
+    }
+
+    protected HttpHeaders defaultHeaders(Long userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
@@ -114,4 +160,25 @@ public class BaseClient {
 
         return responseBuilder.build();
     }
+
+    /**
+     * Тело ответа сервера, при закрытии освобождающее и сам ответ.
+     */
+    private static class ResponseBodyStream extends FilterInputStream {
+        private final ClientHttpResponse response;
+
+        ResponseBodyStream(ClientHttpResponse response) throws IOException {
+            super(response.getBody());
+            this.response = response;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                response.close();
+            }
+        }
+    }
 }
\ No newline at end of file
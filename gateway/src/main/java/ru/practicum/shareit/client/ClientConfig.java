@@ -0,0 +1,152 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+
+/**
+ * Транспорт запросов к серверу, общий для всех клиентов шлюза.
+ * <p>
+ * По умолчанию клиенты используют один {@link CloseableHttpClient} Apache HttpClient 5 с общим пулом соединений
+ * ({@link HttpClientProperties}). Заполненность пула публикуется в actuator как
+ * {@code httpcomponents.httpclient.pool.*} с тегом {@code httpclient=shareit-server}.
+ * <p>
+ * С {@code shareit-server.cache.enabled=true} во все клиенты добавляется {@link ResponseCacheInterceptor},
+ * его попадания публикуются как {@code cache.gets} с тегом {@code cache=shareit-server}.
+ * <p>
+ * Иначе клиенты используют общий {@link HttpClient} из JDK:
+ * <ul>
+ *     <li>с {@code shareit-server.http2=true} — по HTTP/2 без TLS (h2c). Первый запрос к серверу переводит
+ *     соединение на HTTP/2 заголовком {@code Upgrade}, дальше запросы идут параллельными потоками одного соединения,
+ *     и медленный ответ не задерживает остальные. На сервере должен быть включен {@code server.http2.enabled};</li>
+ *     <li>с {@code spring.threads.virtual.enabled=true} на Java 21+ — на виртуальных потоках. Поток, ожидающий
+ *     ответа сервера, не занимает поток ОС.</li>
+ * </ul>
+ */
+@Configuration
+@EnableConfigurationProperties({HttpClientProperties.class, ResponseCacheProperties.class})
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ClientConfig {
+    static final String METRICS_NAME = "shareit-server";
+
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    @ConditionalOnProperty(name = "shareit-server.http2", havingValue = "false", matchIfMissing = true)
+    public PoolingHttpClientConnectionManager shareItServerConnectionManager(HttpClientProperties properties) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxTotal())
+                .setMaxConnPerRoute(properties.getMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(properties.getResponseTimeout()))
+                        .setValidateAfterInactivity(TimeValue.of(properties.getValidateAfterInactivity()))
+                        .build())
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    @ConditionalOnProperty(name = "shareit-server.http2", havingValue = "false", matchIfMissing = true)
+    public CloseableHttpClient shareItServerHttpClient(PoolingHttpClientConnectionManager connectionManager,
+                                                       HttpClientProperties properties) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(properties.getResponseTimeout()))
+                        .setConnectionKeepAlive(TimeValue.of(properties.getKeepAlive()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleEviction()))
+                .build();
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    @ConditionalOnProperty(name = "shareit-server.http2", havingValue = "false", matchIfMissing = true)
+    public ClientHttpRequestFactory pooledRequestFactory(CloseableHttpClient shareItServerHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(shareItServerHttpClient);
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    @ConditionalOnProperty(name = "shareit-server.http2", havingValue = "false", matchIfMissing = true)
+    public MeterBinder shareItServerPoolMetrics(PoolingHttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, METRICS_NAME);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "shareit-server.cache.enabled", havingValue = "true")
+    public ResponseCacheInterceptor responseCacheInterceptor(ResponseCacheProperties properties) {
+        return new ResponseCacheInterceptor(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "shareit-server.cache.enabled", havingValue = "true")
+    public RestTemplateCustomizer responseCacheCustomizer(ResponseCacheInterceptor responseCacheInterceptor) {
+        return restTemplate -> restTemplate.getInterceptors().add(responseCacheInterceptor);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "shareit-server.cache.enabled", havingValue = "true")
+    public MeterBinder responseCacheMetrics(ResponseCacheInterceptor responseCacheInterceptor) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, responseCacheInterceptor.getCache(), METRICS_NAME);
+    }
+
+    @Bean
+    @Conditional(JdkClientCondition.class)
+    public ClientHttpRequestFactory jdkRequestFactory(HttpClientProperties properties, Environment environment,
+                                                      @Value("${shareit-server.http2:false}") boolean http2) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getConnectTimeout());
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("shareit-client-");
+            executor.setVirtualThreads(true);
+            builder.executor(executor);
+        }
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(builder.build());
+        requestFactory.setReadTimeout(properties.getResponseTimeout());
+        return requestFactory;
+    }
+
+    static class JdkClientCondition extends AnyNestedCondition {
+        JdkClientCondition() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @ConditionalOnThreading(Threading.VIRTUAL)
+        static class VirtualThreads {
+        }
+
+        @ConditionalOnProperty(name = "shareit-server.http2", havingValue = "true")
+        static class Http2 {
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Настройки общего пула соединений шлюза с сервером, например
+ * {@code shareit-server.http-client.max-per-route=100}.
+ */
+@Data
+@ConfigurationProperties(prefix = "shareit-server.http-client")
+public class HttpClientProperties {
+    /**
+     * Максимум соединений в пуле на все адреса.
+     */
+    private int maxTotal = 200;
+
+    /**
+     * Максимум соединений к одному адресу. Все клиенты шлюза ходят на один сервер, поэтому это фактический предел.
+     */
+    private int maxPerRoute = 100;
+
+    /**
+     * Ожидание установки TCP-соединения.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Ожидание ответа сервера (тайм-аут чтения сокета).
+     */
+    private Duration responseTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Ожидание свободного соединения в пуле.
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Сколько держать соединение открытым, если сервер не прислал заголовок {@code Keep-Alive}.
+     */
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    /**
+     * Простаивающие дольше соединения закрываются фоновым потоком.
+     */
+    private Duration idleEviction = Duration.ofSeconds(30);
+
+    /**
+     * Соединение, простоявшее дольше, проверяется перед повторным использованием.
+     */
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+}
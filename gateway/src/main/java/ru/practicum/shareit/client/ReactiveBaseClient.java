@@ -0,0 +1,100 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.*;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Неблокирующий клиент сервера для реактивного режима шлюза ({@code spring.main.web-application-type=reactive}).
+ * <p>
+ * В отличие от {@link BaseClient} тело ответа сервера не разбирается в {@code Object}: статус и заголовки
+ * передаются клиенту шлюза сразу, а тело идет следом как поток буферов по мере поступления от сервера.
+ */
+public class ReactiveBaseClient {
+    private static final List<String> HOP_BY_HOP_HEADERS = List.of(
+            HttpHeaders.CONNECTION, "Keep-Alive", HttpHeaders.TRANSFER_ENCODING, HttpHeaders.UPGRADE);
+
+    protected final WebClient webClient;
+
+    public ReactiveBaseClient(WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> get(String path) {
+        return get(path, null, Map.of());
+    }
+
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> get(String path, long userId) {
+        return get(path, userId, Map.of());
+    }
+
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> get(String path, @Nullable Long userId, Map<String, ?> parameters) {
+        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+    }
+
+    protected <T> Mono<ResponseEntity<Flux<DataBuffer>>> post(String path, T body) {
+        return post(path, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<Flux<DataBuffer>>> post(String path, @Nullable Long userId, T body) {
+        return makeAndSendRequest(HttpMethod.POST, path, userId, Map.of(), body);
+    }
+
+    protected <T> Mono<ResponseEntity<Flux<DataBuffer>>> patch(String path, T body) {
+        return patch(path, null, Map.of(), body);
+    }
+
+    protected <T> Mono<ResponseEntity<Flux<DataBuffer>>> patch(String path, @Nullable Long userId,
+                                                               Map<String, ?> parameters, @Nullable T body) {
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
+    }
+
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> delete(String path) {
+        return makeAndSendRequest(HttpMethod.DELETE, path, null, Map.of(), null);
+    }
+
+    protected static Mono<ResponseEntity<Flux<DataBuffer>>> jsonResponse(String json) {
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+        return Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Flux.just(buffer)));
+    }
+
+    private <T> Mono<ResponseEntity<Flux<DataBuffer>>> makeAndSendRequest(HttpMethod method, String path,
+                                                                           @Nullable Long userId,
+                                                                           Map<String, ?> parameters,
+                                                                           @Nullable T body) {
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(path, parameters)
+                .headers(headers -> defaultHeaders(headers, userId));
+        WebClient.RequestHeadersSpec<?> exchange = body == null ? request : request.bodyValue(body);
+        // ответы 4xx и 5xx не считаются ошибкой и передаются клиенту шлюза как есть
+        return exchange.retrieve()
+                .onStatus(status -> true, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class)
+                .map(ReactiveBaseClient::prepareGatewayResponse);
+    }
+
+    private static void defaultHeaders(HttpHeaders headers, @Nullable Long userId) {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (userId != null) {
+            headers.set("X-Sharer-User-Id", String.valueOf(userId));
+        }
+    }
+
+    private static ResponseEntity<Flux<DataBuffer>> prepareGatewayResponse(ResponseEntity<Flux<DataBuffer>> response) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(response.getHeaders());
+        HOP_BY_HOP_HEADERS.forEach(headers::remove);
+        return new ResponseEntity<>(response.getBody(), headers, response.getStatusCode());
+    }
+}
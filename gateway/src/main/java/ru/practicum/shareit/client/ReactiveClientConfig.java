@@ -0,0 +1,28 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Транспорт {@link ReactiveBaseClient} для реактивного режима шлюза.
+ * <p>
+ * С {@code shareit-server.http2=true} запросы к серверу идут по HTTP/2 без TLS (h2c) сразу, без {@code Upgrade}:
+ * параллельные запросы мультиплексируются в одном соединении.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveClientConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "shareit-server.http2", havingValue = "true")
+    public WebClientCustomizer h2cWebClientCustomizer() {
+        return builder -> builder.clientConnector(
+                new ReactorClientHttpConnector(HttpClient.create().protocol(HttpProtocol.H2C)));
+    }
+}
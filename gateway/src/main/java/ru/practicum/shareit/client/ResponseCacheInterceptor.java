@@ -0,0 +1,189 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import static ru.practicum.shareit.utils.Constants.USER_ID_HEADER;
+
+/**
+ * Кэш ответов сервера на идемпотентные GET: пользователь, вещь и запрос по id, поиск вещей.
+ * <p>
+ * Ключ — путь и строка запроса, для вещи по id еще и {@code X-Sharer-User-Id}: владелец видит в ответе
+ * бронирования. Поиск и запрос по id от пользователя не зависят и кэшируются общими для всех. Размер кэша ограничен, ответ отдается без обращения к серверу в течение {@code ttl}. Затем запрос
+ * уходит на сервер с {@code If-None-Match}, и при 304 клиенту отдается сохраненное тело.
+ * <p>
+ * Изменяющий запрос, проходящий через шлюз, сбрасывает записи, которые он может затронуть. Ответ GET, начатого
+ * до такого сброса, в кэш не попадает.
+ */
+@Slf4j
+public class ResponseCacheInterceptor implements ClientHttpRequestInterceptor {
+    private static final List<CacheRule> RULES = List.of(
+            new CacheRule(Pattern.compile("/items/\\d+"), true),
+            new CacheRule(Pattern.compile("/items/search"), false),
+            new CacheRule(Pattern.compile("/requests/\\d+"), false),
+            new CacheRule(Pattern.compile("/users/\\d+"), false)
+    );
+    private static final Pattern ITEM = Pattern.compile("/items/\\d+");
+
+    private final Cache<CacheKey, CachedResponse> cache;
+    private final long ttlNanos;
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResponseCacheInterceptor(ResponseCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl().plus(properties.getRevalidateFor()))
+                .recordStats()
+                .build();
+        this.ttlNanos = properties.getTtl().toNanos();
+    }
+
+    Cache<CacheKey, CachedResponse> getCache() {
+        return cache;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String path = request.getURI().getRawPath();
+        if (request.getMethod() != HttpMethod.GET) {
+            try {
+                return execution.execute(request, body);
+            } finally {
+                invalidate(request.getMethod(), path);
+            }
+        }
+        CacheRule rule = RULES.stream().filter(r -> r.path().matcher(path).matches()).findFirst().orElse(null);
+        if (rule == null) {
+            return execution.execute(request, body);
+        }
+
+        CacheKey key = new CacheKey(path, request.getURI().getRawQuery(),
+                rule.byUser() ? request.getHeaders().getFirst(USER_ID_HEADER) : null);
+        long startedGeneration = generation.get();
+        CachedResponse cached = cache.getIfPresent(key);
+        if (cached != null && System.nanoTime() - cached.storedAt() < ttlNanos) {
+            return cached.toResponse();
+        }
+        if (cached != null && cached.headers().getETag() != null) {
+            request.getHeaders().setIfNoneMatch(cached.headers().getETag());
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+        if (cached != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            response.close();
+            CachedResponse revalidated = cached.withStoredAt(System.nanoTime());
+            store(key, revalidated, startedGeneration);
+            log.debug("Ответ {} подтвержден сервером по ETag", key);
+            return revalidated.toResponse();
+        }
+        if (!response.getStatusCode().isSameCodeAs(HttpStatus.OK)) {
+            return response;
+        }
+        try (response) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(response.getHeaders().getContentType());
+            if (response.getHeaders().getETag() != null) {
+                headers.setETag(response.getHeaders().getETag());
+            }
+            CachedResponse fresh = new CachedResponse(response.getStatusCode(), headers,
+                    StreamUtils.copyToByteArray(response.getBody()), System.nanoTime());
+            store(key, fresh, startedGeneration);
+            return fresh.toResponse();
+        }
+    }
+
+    private void store(CacheKey key, CachedResponse response, long startedGeneration) {
+        if (generation.get() == startedGeneration) {
+            cache.put(key, response);
+        }
+    }
+
+    private void invalidate(HttpMethod method, String path) {
+        generation.incrementAndGet();
+        String[] segments = path.split("/");
+        String resource = segments.length > 1 ? segments[1] : "";
+        String entity = segments.length > 2 ? "/" + resource + "/" + segments[2] : null;
+        switch (resource) {
+            // удаление пользователя каскадно удаляет его вещи и запросы; ответы по вещам содержат данные владельца
+            case "users" -> {
+                if (method == HttpMethod.DELETE) {
+                    cache.invalidateAll();
+                } else {
+                    cache.asMap().keySet().removeIf(key -> key.path().equals(entity)
+                            || ITEM.matcher(key.path()).matches());
+                }
+            }
+            // ответ на запрос содержит вещи-ответы с названием, описанием и доступностью: их затрагивает
+            // и создание, и изменение вещи; отзыв меняет ответ по вещи
+            case "items" -> cache.asMap().keySet().removeIf(key -> key.path().equals(entity)
+                    || key.path().equals("/items/search")
+                    || key.path().startsWith("/requests/"));
+            // последнее и следующее бронирование входят в ответ по вещи для владельца
+            case "bookings" -> cache.asMap().keySet().removeIf(key -> ITEM.matcher(key.path()).matches());
+            default -> {
+            }
+        }
+    }
+
+    private record CacheRule(Pattern path, boolean byUser) {
+    }
+
+    record CacheKey(String path, @Nullable String query, @Nullable String userId) {
+    }
+
+    record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, long storedAt) {
+        CachedResponse withStoredAt(long time) {
+            return new CachedResponse(status, headers, body, time);
+        }
+
+        ClientHttpResponse toResponse() {
+            return new ClientHttpResponse() {
+                @Override
+                public HttpStatusCode getStatusCode() {
+                    return status;
+                }
+
+                @Override
+                public String getStatusText() {
+                    return "";
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    HttpHeaders copy = new HttpHeaders();
+                    copy.addAll(headers);
+                    copy.setContentLength(body.length);
+                    return copy;
+                }
+
+                @Override
+                public InputStream getBody() {
+                    return new ByteArrayInputStream(body);
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+    }
+}
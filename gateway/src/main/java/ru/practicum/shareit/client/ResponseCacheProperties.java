@@ -0,0 +1,33 @@
+package ru.practicum.shareit.client;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Кэш ответов сервера в шлюзе ({@link ResponseCacheInterceptor}).
+ */
+@Data
+@ConfigurationProperties(prefix = "shareit-server.cache")
+public class ResponseCacheProperties {
+    /**
+     * Включить кэш ответов на GET пользователя, вещи, запроса по id и поиска вещей.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Максимум ответов в кэше; при превышении вытесняются давно не запрашивавшиеся.
+     */
+    private long maxEntries = 10_000;
+
+    /**
+     * Сколько ответ отдается из кэша без обращения к серверу.
+     */
+    private Duration ttl = Duration.ofSeconds(5);
+
+    /**
+     * Сколько устаревший ответ хранится для перепроверки по ETag после истечения {@link #ttl}.
+     */
+    private Duration revalidateFor = Duration.ofMinutes(5);
+}
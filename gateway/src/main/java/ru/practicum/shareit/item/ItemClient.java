@@ -2,29 +2,40 @@ package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder,
+                      ClientHttpRequestFactory requestFactory,
+                      @Value("${shareit-server.passthrough:true}") boolean passthrough) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                passthrough
         );
     }
 
@@ -32,6 +43,16 @@ public class ItemClient extends BaseClient {
         return post("", userId, itemDto);
     }
 
+    /**
+     * Отправляет серверу порцию уже проверенных вещей. Ответ разбирается независимо от режима passthrough:
+     * шлюз сопоставляет результаты с номерами строк исходного файла.
+     */
+    public ResponseEntity<List<ItemImportResultDto>> createAll(long userId, List<ItemCreateDto> items) {
+        return rest.exchange("/bulk", HttpMethod.POST, new HttpEntity<>(items, defaultHeaders(userId)),
+                new ParameterizedTypeReference<>() {
+                });
+    }
+
     public ResponseEntity<Object> update(Long userId, Long itemId, ItemCreateDto itemDto) {
         return patch("/" + itemId, userId, itemDto);
     }
@@ -45,21 +66,36 @@ public class ItemClient extends BaseClient {
         return get("", userId, null);
     }
 
+    public ResponseEntity<Object> findAllFull(Long userId) {
+        return get("/full", userId);
+    }
+
     public ResponseEntity<Object> deleteById(Long itemId) {
         return delete("/" + itemId);
     }
 
-    public ResponseEntity<Object> searchItems(Long userId, String text) {
+    public ResponseEntity<Object> searchItems(Long userId, String text, Integer offset, Integer limit) {
         if (text.isBlank()) {
             return ResponseEntity.ok(Collections.emptyList());
         }
 
         Map<String, Object> parameters = Map.of(
-
-                "text", text
+                "text", text,
+                "offset", offset,
+                "limit", limit
         );
 
-        return get("/search?text={text}", userId, parameters);
+        return get("/search?text={text}&offset={offset}&limit={limit}", userId, parameters);
+    }
+
+    public ResponseEntity<Object> getAvailability(Long userId, Long itemId, LocalDateTime from, LocalDateTime to,
+                                                  boolean includeWaiting) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to,
+                "includeWaiting", includeWaiting
+        );
+        return get("/" + itemId + "/availability?from={from}&to={to}&includeWaiting={includeWaiting}", userId, parameters);
     }
 
     public ResponseEntity<Object> createComment(Long userId, CommentDto commentDto, Long itemId) {
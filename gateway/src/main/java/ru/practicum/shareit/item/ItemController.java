@@ -1,8 +1,15 @@
 package ru.practicum.shareit.item;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
@@ -10,6 +17,10 @@ import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemCreateDto;
 import ru.practicum.shareit.utils.Marker;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+
 import static ru.practicum.shareit.utils.Constants.USER_ID_HEADER;
 
 /**
@@ -20,8 +31,10 @@ import static ru.practicum.shareit.utils.Constants.USER_ID_HEADER;
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/items")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemController {
     private final ItemClient itemClient;
+    private final ItemImporter itemImporter;
 
     @PostMapping
     @Validated(Marker.OnCreate.class)
@@ -31,6 +44,14 @@ public class ItemController {
         return itemClient.create(owner, itemCreateDto);
     }
 
+    @PostMapping(path = "/bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<Object> createAll(@RequestHeader(USER_ID_HEADER) Long owner,
+                                            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                            InputStream body) throws IOException {
+        log.info("Запрос на импорт вещей ({}) от пользователя {}", contentType, owner);
+        return itemImporter.importItems(owner, contentType, body);
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<Object> update(@RequestHeader(USER_ID_HEADER) Long owner,
                                          @Valid @RequestBody ItemCreateDto itemCreateDto, @PathVariable("id") Long id) {
@@ -50,10 +71,27 @@ public class ItemController {
         return itemClient.findAll(owner);
     }
 
+    @GetMapping("/full")
+    public ResponseEntity<Object> getFullItemsForOwner(@RequestHeader(USER_ID_HEADER) Long owner) {
+        log.info("Запрос на получение вещей пользователя id {} с бронированиями и комментариями", owner);
+        return itemClient.findAllFull(owner);
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<Object> searchItems(@RequestHeader(USER_ID_HEADER) Long userId, @RequestParam String text) {
-        log.info("Поиск вещей по запросу: {}", text);
-        return itemClient.searchItems(userId, text);
+    public ResponseEntity<Object> searchItems(@RequestHeader(USER_ID_HEADER) Long userId, @RequestParam String text,
+                                              @PositiveOrZero @RequestParam(defaultValue = "0") Integer offset,
+                                              @Positive @Max(100) @RequestParam(defaultValue = "20") Integer limit) {
+        log.info("Поиск вещей по запросу: {}, offset {}, limit {}", text, offset, limit);
+        return itemClient.searchItems(userId, text, offset, limit);
+    }
+
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<Object> getAvailability(@RequestHeader(USER_ID_HEADER) Long userId, @PathVariable("id") Long id,
+                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                  @RequestParam(defaultValue = "false") boolean includeWaiting) {
+        log.info("Запрос свободных окон вещи {} с {} по {}, с учетом ожидающих: {}", id, from, to, includeWaiting);
+        return itemClient.getAvailability(userId, id, from, to, includeWaiting);
     }
 
     @PostMapping("/{itemId}/comment")
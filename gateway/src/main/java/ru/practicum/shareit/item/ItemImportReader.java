@@ -0,0 +1,215 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import org.springframework.web.server.ResponseStatusException;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Построчное чтение файла импорта вещей. Тело запроса читается по мере разбора, в памяти находится только
+ * текущая запись. Номер строки — порядковый номер записи в файле, начиная с 1, без пустых строк и заголовка CSV.
+ * <ul>
+ *     <li>{@code application/x-ndjson} — по JSON-объекту {@link ItemCreateDto} на строку;</li>
+ *     <li>{@code text/csv} — заголовок {@code name,description,available[,requestId]} в любом порядке столбцов,
+ *     значения через запятую, кавычки по RFC 4180.</li>
+ * </ul>
+ */
+abstract class ItemImportReader implements Closeable {
+    static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    protected final BufferedReader reader;
+    protected int rowNumber;
+
+    ItemImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static ItemImportReader create(MediaType contentType, InputStream body, ObjectMapper objectMapper) {
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, charset));
+        if (TEXT_CSV.isCompatibleWith(contentType)) {
+            return new Csv(reader);
+        }
+        return new Ndjson(reader, objectMapper);
+    }
+
+    /**
+     * Следующая запись файла или {@code null}, если файл закончился.
+     */
+    @Nullable
+    abstract Row next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Запись файла: вещь либо ошибка разбора строки.
+     */
+    record Row(int number, @Nullable ItemCreateDto item, @Nullable String error) {
+    }
+
+    private static class Ndjson extends ItemImportReader {
+        private final ObjectMapper objectMapper;
+
+        Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+            super(reader);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        Row next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+            rowNumber++;
+            ItemCreateDto item;
+            try {
+                item = objectMapper.readValue(line, ItemCreateDto.class);
+            } catch (JsonProcessingException e) {
+                item = null;
+            }
+            // строка «null» разбирается без ошибки, но вещи в ней нет
+            if (item == null) {
+                return new Row(rowNumber, null, "Строка не является JSON-объектом вещи");
+            }
+            return new Row(rowNumber, item, null);
+        }
+    }
+
+    private static class Csv extends ItemImportReader {
+        private static final List<String> REQUIRED_COLUMNS = List.of("name", "description", "available");
+
+        private Map<String, Integer> columns;
+
+        Csv(BufferedReader reader) {
+            super(reader);
+        }
+
+        @Override
+        Row next() throws IOException {
+            if (columns == null) {
+                columns = readHeader();
+            }
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            rowNumber++;
+            ItemCreateDto item = new ItemCreateDto();
+            item.setName(field(fields, "name"));
+            item.setDescription(field(fields, "description"));
+            String available = field(fields, "available");
+            if (available != null) {
+                if (!available.equalsIgnoreCase("true") && !available.equalsIgnoreCase("false")) {
+                    return new Row(rowNumber, null, "available должен быть true или false");
+                }
+                item.setAvailable(Boolean.parseBoolean(available));
+            }
+            String requestId = field(fields, "requestId");
+            if (requestId != null) {
+                try {
+                    item.setRequestId(Long.parseLong(requestId));
+                } catch (NumberFormatException e) {
+                    return new Row(rowNumber, null, "requestId должен быть числом");
+                }
+            }
+            return new Row(rowNumber, item, null);
+        }
+
+        private Map<String, Integer> readHeader() throws IOException {
+            List<String> header = readRecord();
+            if (header == null) {
+                return Map.of();
+            }
+            Map<String, Integer> result = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                // Excel сохраняет CSV в UTF-8 с BOM в начале файла
+                String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+                result.put(name, i);
+            }
+            for (String column : REQUIRED_COLUMNS) {
+                if (!result.containsKey(column)) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                            "В заголовке CSV нет столбца " + column);
+                }
+            }
+            return result;
+        }
+
+        @Nullable
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column.toLowerCase(Locale.ROOT));
+            if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+                return null;
+            }
+            return fields.get(index);
+        }
+
+        /**
+         * Читает одну запись CSV. Значение в кавычках может содержать запятые, переводы строк и удвоенные кавычки.
+         * Пустые строки пропускаются.
+         */
+        @Nullable
+        private List<String> readRecord() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                if (quoted) {
+                    if (c != '"') {
+                        field.append((char) c);
+                        continue;
+                    }
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    if (fields.isEmpty() && field.isEmpty()) {
+                        continue;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (fields.isEmpty() && field.isEmpty()) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.utils.Marker;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Пакетный импорт вещей ({@code POST /items/bulk}).
+ * <p>
+ * Файл разбирается построчно ({@link ItemImportReader}), каждая строка проверяется теми же правилами
+ * {@link ItemCreateDto}, что и {@code POST /items}. Прошедшие проверку строки отправляются серверу порциями
+ * по {@value #CHUNK_SIZE}: сервер проверяет владельца и запросы одним запросом на порцию и вставляет вещи пакетами
+ * JDBC. Каждая порция сохраняется отдельной транзакцией.
+ * <p>
+ * Если сервер отклонил первую же порцию (например, пользователь не найден), ничего не сохранено и клиент получает
+ * ответ сервера. Если отклонена одна из следующих, ранее сохраненные порции остаются: ответ содержит их id,
+ * строки отклоненной порции — ошибку сервера, остальные строки файла — ошибку «не отправлена». Так клиент видит,
+ * какие строки сохранены, и повторяет только остальные.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ItemImporter {
+    static final int CHUNK_SIZE = 500;
+    static final String NOT_SENT = "Строка не отправлена: сервер отклонил предыдущую порцию";
+
+    private final ItemClient itemClient;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    public ResponseEntity<Object> importItems(long owner, MediaType contentType, InputStream body) throws IOException {
+        Import state = new Import(owner);
+        try (ItemImportReader reader = ItemImportReader.create(contentType, body, objectMapper)) {
+            ItemImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                String error = row.error() != null ? row.error() : validate(row.item());
+                if (error != null) {
+                    state.results.add(new ItemImportResultDto(row.number(), null, error));
+                } else if (state.rejected) {
+                    state.results.add(new ItemImportResultDto(row.number(), null, NOT_SENT));
+                } else {
+                    state.chunk.add(row.item());
+                    state.chunkRows.add(row.number());
+                    if (state.chunk.size() == CHUNK_SIZE) {
+                        ResponseEntity<Object> rejected = send(state);
+                        if (rejected != null) {
+                            return rejected;
+                        }
+                    }
+                }
+            }
+        }
+        if (!state.chunk.isEmpty()) {
+            ResponseEntity<Object> rejected = send(state);
+            if (rejected != null) {
+                return rejected;
+            }
+        }
+        state.results.sort(Comparator.comparing(ItemImportResultDto::getRow));
+        log.info("Импорт вещей пользователя {}: обработано строк {}, сохранено {}", owner, state.results.size(),
+                state.saved);
+        return ResponseEntity.ok(state.results);
+    }
+
+    @Nullable
+    private String validate(ItemCreateDto item) {
+        Set<ConstraintViolation<ItemCreateDto>> violations = validator.validate(item, Default.class,
+                Marker.OnCreate.class);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Отправляет порцию серверу и добавляет результаты с номерами строк файла. Возвращает ответ сервера,
+     * если он отклонил порцию и до нее ничего не сохранено, иначе {@code null}.
+     */
+    @Nullable
+    private ResponseEntity<Object> send(Import state) {
+        List<ItemImportResultDto> saved;
+        try {
+            saved = itemClient.createAll(state.owner, state.chunk).getBody();
+        } catch (HttpStatusCodeException e) {
+            log.warn("Сервер отклонил порцию импорта пользователя {}: {}", state.owner, e.getStatusCode());
+            if (state.saved == 0) {
+                return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            }
+            String error = "Порция отклонена сервером: " + e.getStatusCode().value() + " "
+                    + e.getResponseBodyAsString();
+            for (Integer row : state.chunkRows) {
+                state.results.add(new ItemImportResultDto(row, null, error));
+            }
+            state.rejected = true;
+            state.clearChunk();
+            return null;
+        }
+        for (int i = 0; i < state.chunk.size(); i++) {
+            ItemImportResultDto result = saved.get(i);
+            result.setRow(state.chunkRows.get(i));
+            if (result.getId() != null) {
+                state.saved++;
+            }
+            state.results.add(result);
+        }
+        state.clearChunk();
+        return null;
+    }
+
+    /**
+     * Состояние одного импорта: результаты по строкам, текущая порция и число сохраненных вещей.
+     */
+    private static class Import {
+        private final long owner;
+        private final List<ItemImportResultDto> results = new ArrayList<>();
+        private final List<ItemCreateDto> chunk = new ArrayList<>(CHUNK_SIZE);
+        private final List<Integer> chunkRows = new ArrayList<>(CHUNK_SIZE);
+        private int saved;
+        private boolean rejected;
+
+        Import(long owner) {
+            this.owner = owner;
+        }
+
+        void clearChunk() {
+            chunk.clear();
+            chunkRows.clear();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/items";
+
+    public ReactiveItemClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(Long userId, ItemCreateDto itemDto) {
+        return post("", userId, itemDto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(Long userId, Long itemId, ItemCreateDto itemDto) {
+        return patch("/" + itemId, userId, Map.of(), itemDto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItem(Long itemId, Long requesterId) {
+        return get("/" + itemId, requesterId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> findAll(Long userId) {
+        return get("", userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> findAllFull(Long userId) {
+        return get("/full", userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> searchItems(Long userId, String text, Integer offset, Integer limit) {
+        if (text.isBlank()) {
+            return jsonResponse("[]");
+        }
+
+        Map<String, Object> parameters = Map.of(
+                "text", text,
+                "offset", offset,
+                "limit", limit
+        );
+
+        return get("/search?text={text}&offset={offset}&limit={limit}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAvailability(Long userId, Long itemId, LocalDateTime from,
+                                                                  LocalDateTime to, boolean includeWaiting) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to,
+                "includeWaiting", includeWaiting
+        );
+        return get("/" + itemId + "/availability?from={from}&to={to}&includeWaiting={includeWaiting}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> createComment(Long userId, CommentDto commentDto, Long itemId) {
+        return post("/" + itemId + "/comment", userId, commentDto);
+    }
+}
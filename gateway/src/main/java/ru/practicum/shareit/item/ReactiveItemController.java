@@ -0,0 +1,95 @@
+package ru.practicum.shareit.item;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.utils.Marker;
+
+import java.time.LocalDateTime;
+
+import static ru.practicum.shareit.utils.Constants.USER_ID_HEADER;
+
+@Slf4j
+@Validated
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/items")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemController {
+    private final ReactiveItemClient itemClient;
+
+    @PostMapping
+    @Validated(Marker.OnCreate.class)
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(@RequestHeader(USER_ID_HEADER) Long owner,
+                                                         @Valid @RequestBody ItemCreateDto itemCreateDto) {
+        log.info("Запрос на создание вещи {} от пользователя {}", itemCreateDto, owner);
+        return itemClient.create(owner, itemCreateDto);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(@RequestHeader(USER_ID_HEADER) Long owner,
+                                                         @Valid @RequestBody ItemCreateDto itemCreateDto,
+                                                         @PathVariable("id") Long id) {
+        log.info("Запрос на обновление вещи {} от пользователя {}", itemCreateDto, owner);
+        return itemClient.update(owner, id, itemCreateDto);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItem(@RequestHeader(USER_ID_HEADER) Long userId,
+                                                          @PathVariable("id") Long id) {
+        log.info("Запрос на получение вещи с id {}", id);
+        return itemClient.getItem(id, userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItemsForOwner(@RequestHeader(USER_ID_HEADER) Long owner) {
+        log.info("Запрос на получение вещей пользователя id {}", owner);
+        return itemClient.findAll(owner);
+    }
+
+    @GetMapping("/full")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getFullItemsForOwner(@RequestHeader(USER_ID_HEADER) Long owner) {
+        log.info("Запрос на получение вещей пользователя id {} с бронированиями и комментариями", owner);
+        return itemClient.findAllFull(owner);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> searchItems(@RequestHeader(USER_ID_HEADER) Long userId,
+                                                              @RequestParam String text,
+                                                              @PositiveOrZero @RequestParam(defaultValue = "0") Integer offset,
+                                                              @Positive @Max(100) @RequestParam(defaultValue = "20") Integer limit) {
+        log.info("Поиск вещей по запросу: {}, offset {}, limit {}", text, offset, limit);
+        return itemClient.searchItems(userId, text, offset, limit);
+    }
+
+    @GetMapping("/{id}/availability")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAvailability(@RequestHeader(USER_ID_HEADER) Long userId,
+                                                                  @PathVariable("id") Long id,
+                                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                                  @RequestParam(defaultValue = "false") boolean includeWaiting) {
+        log.info("Запрос свободных окон вещи {} с {} по {}, с учетом ожидающих: {}", id, from, to, includeWaiting);
+        return itemClient.getAvailability(userId, id, from, to, includeWaiting);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addCommentToItem(@RequestHeader(USER_ID_HEADER) Long user,
+                                                                   @PathVariable("itemId") Long itemId,
+                                                                   @Valid @RequestBody CommentDto commentDto) {
+        log.info("Пользователь: {} пытается оставить комментарий \"{}\" для вещи с id {}", user, commentDto, itemId);
+        return itemClient.createComment(user, commentDto, itemId);
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/users";
+
+    public ReactiveUserClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(UserDto userDto) {
+        return post("", userDto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(Long userId) {
+        return get("/" + userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAll() {
+        return get("/");
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(Long userId, UserDto userDto) {
+        return patch("/" + userId, userDto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> deleteById(Long userId) {
+        return delete("/" + userId);
+    }
+}
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.user;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.utils.Marker;
+
+@Slf4j
+@Validated
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/users")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserController {
+    private final ReactiveUserClient userClient;
+
+    @Validated(Marker.OnCreate.class)
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> create(@Valid @RequestBody UserDto userDto) {
+        log.info("Запрос на создание пользователя {}", userDto);
+        return userClient.create(userDto);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(@Valid @RequestBody UserDto userDto, @PathVariable("id") Long id) {
+        log.info("Запрос на обновление пользователя {} c id {}", userDto, id);
+        return userClient.update(id, userDto);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getUser(@PathVariable("id") Long id) {
+        log.info("Запрос на получение пользователя с id {}", id);
+        return userClient.getById(id);
+    }
+
+    @GetMapping()
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getUser() {
+        log.info("Запрос на получение всех пользователей");
+        return userClient.getAll();
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> delete(@PathVariable("id") Long id) {
+        log.info("Запрос на удаление пользователя c id {}", id);
+        return userClient.deleteById(id);
+    }
+}
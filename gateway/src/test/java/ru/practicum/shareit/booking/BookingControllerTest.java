@@ -8,6 +8,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
@@ -52,6 +54,21 @@ public class BookingControllerTest {
         verify(bookingClient, times(1)).update(userId, bookingId, approved);
     }
 
+    @Test
+    @DisplayName("Решение по нескольким бронированиям")
+    void updateAllReturnResponseFromClient() {
+        Long userId = 1L;
+        BookingDecisionDto decision = new BookingDecisionDto(List.of(2L, 3L), false);
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok("Бронирования отклонены");
+
+        when(bookingClient.updateAll(userId, decision)).thenReturn(expectedResponse);
+
+        ResponseEntity<Object> actualResponse = bookingController.updateAll(userId, decision);
+
+        assertEquals(expectedResponse, actualResponse);
+        verify(bookingClient, times(1)).updateAll(userId, decision);
+    }
+
     @Test
     @DisplayName("Получение всех бронирований пользователя")
     void getBookingsReturnResponseFromClient() {
@@ -99,4 +116,19 @@ public class BookingControllerTest {
         assertEquals(expectedResponse, actualResponse);
         verify(bookingClient, times(1)).getBooking(userId, bookingId);
     }
-}
+
+    @Test
+    @DisplayName("Получение страницы бронирований владельца")
+    void getOwnerBookingsPageReturnResponseFromClient() {
+        Long ownerId = 1L;
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok("Страница бронирований владельца");
+
+        when(bookingClient.getOwnerBookingsPage(ownerId, BookingState.FUTURE, "cursor", 20))
+                .thenReturn(expectedResponse);
+
+        ResponseEntity<Object> actualResponse = bookingController.getBookingPageForOwner(ownerId, "future", "cursor", 20);
+
+        assertEquals(expectedResponse, actualResponse);
+        verify(bookingClient, times(1)).getOwnerBookingsPage(ownerId, BookingState.FUTURE, "cursor", 20);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingDecisionDtoValidationTest {
+
+    private Validator validator;
+
+    @BeforeEach
+    void setUp() {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            validator = factory.getValidator();
+        }
+    }
+
+    @Test
+    @DisplayName("Решение по нескольким бронированиям: корректное решение")
+    void validDecision() {
+        assertThat(validator.validate(new BookingDecisionDto(List.of(1L, 2L), true))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Решение по нескольким бронированиям: пустой список, пустой id и решение без approved")
+    void invalidDecision() {
+        assertThat(messages(new BookingDecisionDto(List.of(), true)))
+                .containsExactly("Список бронирований должен быть заполнен");
+        assertThat(messages(new BookingDecisionDto(Arrays.asList(1L, null, -2L), false)))
+                .containsExactlyInAnyOrder("id бронирования должен быть заполнен",
+                        "id бронирования должен быть положительным");
+        assertThat(messages(new BookingDecisionDto(List.of(1L), null)))
+                .containsExactly("Поле approved должно быть заполнено");
+    }
+
+    @Test
+    @DisplayName("Решение по нескольким бронированиям: не больше 100 бронирований")
+    void tooManyBookings() {
+        List<Long> ids = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        assertThat(messages(new BookingDecisionDto(ids, true)))
+                .containsExactly("В одном решении не больше 100 бронирований");
+    }
+
+    private List<String> messages(BookingDecisionDto dto) {
+        Set<ConstraintViolation<BookingDecisionDto>> violations = validator.validate(dto);
+        return violations.stream().map(ConstraintViolation::getMessage).toList();
+    }
+}
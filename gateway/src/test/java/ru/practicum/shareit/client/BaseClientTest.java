@@ -0,0 +1,120 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class BaseClientTest {
+    private static final String SERVER_URL = "http://localhost:9090/bookings";
+    // пробелы и порядок полей не как у Jackson: в режиме passthrough байты сервера не меняются
+    private static final String BOOKINGS_JSON = "[ {\"status\":\"WAITING\",  \"id\":1} ]";
+
+    private RestTemplate rest;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        rest = new RestTemplate();
+        rest.setUriTemplateHandler(new DefaultUriBuilderFactory(SERVER_URL));
+        server = MockRestServiceServer.bindTo(rest).build();
+    }
+
+    @Test
+    @DisplayName("Passthrough: тело ответа сервера возвращается потоком без разбора")
+    void passthroughReturnsServerBytes() throws IOException {
+        server.expect(requestTo(SERVER_URL + "/owner?state=ALL"))
+                .andExpect(header("X-Sharer-User-Id", "7"))
+                .andRespond(withSuccess(BOOKINGS_JSON, MediaType.APPLICATION_JSON));
+
+        ResponseEntity<Object> response = new BaseClient(rest, true)
+                .get("/owner?state={state}", 7L, Map.of("state", "ALL"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(response.getBody()).isInstanceOf(InputStreamResource.class);
+        try (InputStream body = ((InputStreamResource) response.getBody()).getInputStream()) {
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BOOKINGS_JSON);
+        }
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Passthrough: статус и тело ошибки сервера передаются без изменений")
+    void passthroughKeepsErrorStatus() throws IOException {
+        String error = "{\"error\":\"Бронирование не найдено\"}";
+        server.expect(requestTo(SERVER_URL + "/5"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(error));
+
+        ResponseEntity<Object> response = new BaseClient(rest, true).get("/5", 1L);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        try (InputStream body = ((InputStreamResource) response.getBody()).getInputStream()) {
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(error);
+        }
+    }
+
+    @Test
+    @DisplayName("Без passthrough ответ сервера разбирается в объект")
+    void defaultModeParsesResponse() {
+        server.expect(requestTo(SERVER_URL + "/owner?state=ALL"))
+                .andRespond(withSuccess(BOOKINGS_JSON, MediaType.APPLICATION_JSON));
+
+        ResponseEntity<Object> response = new BaseClient(rest, false)
+                .get("/owner?state={state}", 7L, Map.of("state", "ALL"));
+
+        assertThat(response.getBody()).asList().hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Passthrough: контроллер шлюза отдает поток сервера с его Content-Type")
+    void controllerWritesStreamedBody() throws Exception {
+        server.expect(requestTo(SERVER_URL + "/owner?state=ALL"))
+                .andRespond(withSuccess(BOOKINGS_JSON, MediaType.APPLICATION_JSON));
+        BaseClient client = new BaseClient(rest, true);
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new ProxyController(client)).build();
+
+        mvc.perform(get("/owner"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().string(BOOKINGS_JSON));
+    }
+
+    @RestController
+    static class ProxyController {
+        private final BaseClient client;
+
+        ProxyController(BaseClient client) {
+            this.client = client;
+        }
+
+        @GetMapping("/owner")
+        ResponseEntity<Object> owner() {
+            return client.get("/owner?state={state}", 7L, Map.of("state", "ALL"));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.request.RequestClient;
+import ru.practicum.shareit.user.UserClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "shareit-server.http-client.max-total=40",
+        "shareit-server.http-client.max-per-route=15"
+})
+class ClientConfigTest {
+    @Autowired
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    @Autowired
+    private ClientHttpRequestFactory requestFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BookingClient bookingClient;
+
+    @Autowired
+    private ItemClient itemClient;
+
+    @Autowired
+    private RequestClient requestClient;
+
+    @Autowired
+    private UserClient userClient;
+
+    @Test
+    @DisplayName("Пул соединений настраивается свойствами shareit-server.http-client")
+    void poolLimitsAreConfigured() {
+        assertThat(connectionManager.getMaxTotal()).isEqualTo(40);
+        assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("Все клиенты шлюза используют одну фабрику запросов с общим пулом")
+    void clientsShareOneRequestFactory() {
+        List<BaseClient> clients = List.of(bookingClient, itemClient, requestClient, userClient);
+
+        assertThat(clients).allSatisfy(client -> assertThat(client.rest.getRequestFactory()).isSameAs(requestFactory));
+    }
+
+    @Test
+    @DisplayName("Заполненность пула публикуется в метриках")
+    void poolMetricsAreRegistered() {
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", ClientConfig.METRICS_NAME)
+                .gauge().value()).isEqualTo(40);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "leased")
+                .gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,97 @@
+package ru.practicum.shareit.client;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.Http2;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import ru.practicum.shareit.user.UserClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "shareit-server.http2=true")
+class Http2TransportTest {
+    private static final int CONCURRENT_REQUESTS = 50;
+    private static final long SLOW_USER_ID = 999L;
+    private static final long SLOW_RESPONSE_MS = 3000;
+
+    private static WebServer downstream;
+    private static final List<String> received = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private UserClient userClient;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        Http2 http2 = new Http2();
+        http2.setEnabled(true);
+        factory.setHttp2(http2);
+        downstream = factory.getWebServer(context -> context.addServlet("users", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                received.add(request.getProtocol() + " " + request.getRemotePort());
+                try {
+                    Thread.sleep(request.getRequestURI().endsWith("/" + SLOW_USER_ID) ? SLOW_RESPONSE_MS : 50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                response.setContentType("application/json");
+                response.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+            }
+        }).addMapping("/users/*"));
+        downstream.start();
+        registry.add("shareit-server.url", () -> "http://localhost:" + downstream.getPort());
+    }
+
+    @AfterAll
+    static void stopDownstream() {
+        downstream.stop();
+    }
+
+    @Test
+    @DisplayName("h2c: параллельные запросы шлюза мультиплексируются в одном соединении, медленный ответ их не задерживает")
+    void concurrentRequestsShareOneConnection() {
+        assertThat(userClient.getById(1L).getStatusCode().is2xxSuccessful()).isTrue();
+        received.clear();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS + 1);
+        try {
+            CompletableFuture<ResponseEntity<Object>> slow =
+                    CompletableFuture.supplyAsync(() -> userClient.getById(SLOW_USER_ID), executor);
+            long started = System.nanoTime();
+            List<CompletableFuture<ResponseEntity<Object>>> responses = IntStream.range(0, CONCURRENT_REQUESTS)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> userClient.getById(1L), executor))
+                    .toList();
+            responses.forEach(response -> assertThat(response.join().getStatusCode().is2xxSuccessful()).isTrue());
+
+            assertThat((System.nanoTime() - started) / 1_000_000).isLessThan(SLOW_RESPONSE_MS);
+            assertThat(slow).isNotDone();
+            assertThat(slow.join().getStatusCode().is2xxSuccessful()).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(received).hasSize(CONCURRENT_REQUESTS + 1);
+        assertThat(received).allSatisfy(request -> assertThat(request).startsWith("HTTP/2.0"));
+        assertThat(received.stream().distinct()).hasSize(1);
+    }
+}
@@ -0,0 +1,160 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+class ReactiveGatewayTest {
+    // пробелы и порядок полей не как у Jackson: шлюз должен вернуть байты сервера без изменений
+    private static final String USER_JSON = "{ \"email\":\"user@mail.ru\",  \"id\":1, \"name\":\"Юзер\" }";
+    private static final String NOT_FOUND_JSON = "{\"error\":\"Пользователь с id 2 не найден\"}";
+
+    private static HttpServer downstream;
+    private static final List<String> received = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) throws IOException {
+        downstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        downstream.createContext("/", exchange -> {
+            String request = exchange.getRequestMethod() + " " + exchange.getRequestURI()
+                    + " user=" + exchange.getRequestHeaders().getFirst("X-Sharer-User-Id");
+            received.add(request);
+            byte[] body;
+            int status;
+            if (exchange.getRequestURI().getPath().equals("/users/1")) {
+                status = 200;
+                body = USER_JSON.getBytes(StandardCharsets.UTF_8);
+            } else if (exchange.getRequestURI().getPath().equals("/users/2")) {
+                status = 404;
+                body = NOT_FOUND_JSON.getBytes(StandardCharsets.UTF_8);
+            } else {
+                status = 200;
+                body = "[]".getBytes(StandardCharsets.UTF_8);
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        downstream.start();
+        registry.add("shareit-server.url", () -> "http://localhost:" + downstream.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopDownstream() {
+        downstream.stop(0);
+    }
+
+    @BeforeEach
+    void clearReceived() {
+        received.clear();
+    }
+
+    @Test
+    @DisplayName("Реактивный шлюз: тело ответа сервера передается без изменений")
+    void responseBodyIsPassedThroughAsIs() {
+        byte[] body = webTestClient.get().uri("/users/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().returnResult().getResponseBody();
+
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo(USER_JSON);
+    }
+
+    @Test
+    @DisplayName("Реактивный шлюз: статус и тело ошибки сервера передаются клиенту")
+    void errorResponseIsPassedThrough() {
+        webTestClient.get().uri("/users/2")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(String.class).isEqualTo(NOT_FOUND_JSON);
+    }
+
+    @Test
+    @DisplayName("Реактивный шлюз: параметры и заголовок пользователя передаются серверу")
+    void parametersAreForwarded() {
+        webTestClient.get().uri("/bookings/page?state=future&size=5")
+                .header("X-Sharer-User-Id", "3")
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri("/requests/all?offset=4&limit=2")
+                .header("X-Sharer-User-Id", "3")
+                .exchange()
+                .expectStatus().isOk();
+
+        assertThat(received).containsExactly(
+                "GET /bookings/page?state=FUTURE&size=5 user=3",
+                "GET /requests/all?offset=4&limit=2 user=3");
+    }
+
+    @Test
+    @DisplayName("Реактивный шлюз: некорректное тело запроса отклоняется без обращения к серверу")
+    void invalidBodyIsRejected() {
+        webTestClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"User\",\"email\":\"not-an-email\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+        webTestClient.post().uri("/bookings")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"start\":\"2000-01-01T00:00:00\",\"end\":\"2000-01-02T00:00:00\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Реактивный шлюз: проверки группы создания и параметров запроса выполняются как в MVC-контроллерах")
+    void methodValidationIsApplied() {
+        webTestClient.post().uri("/items")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"description\":\"Без названия\",\"available\":true}")
+                .exchange()
+                .expectStatus().is5xxServerError();
+        webTestClient.get().uri("/items/search?text=дрель&limit=1000")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().is5xxServerError();
+
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Реактивный шлюз: пустой поисковый запрос обрабатывается без обращения к серверу")
+    void blankSearchIsAnsweredLocally() {
+        webTestClient.get().uri("/items/search?text= ")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("[]");
+
+        assertThat(received).isEmpty();
+    }
+}
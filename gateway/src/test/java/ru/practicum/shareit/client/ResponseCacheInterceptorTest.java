@@ -0,0 +1,193 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ResponseCacheInterceptorTest {
+    private static final String SERVER_URL = "http://localhost:9090";
+    private static final String USER_JSON = "{\"id\":1,\"name\":\"User\"}";
+    private static final String ITEM_JSON = "{\"id\":1,\"name\":\"Дрель\"}";
+
+    private RestTemplate rest;
+    private MockRestServiceServer server;
+
+    private void setUp(Duration ttl) {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setTtl(ttl);
+        rest = new RestTemplate();
+        rest.setUriTemplateHandler(new DefaultUriBuilderFactory(SERVER_URL));
+        rest.getInterceptors().add(new ResponseCacheInterceptor(properties));
+        server = MockRestServiceServer.bindTo(rest).build();
+    }
+
+    private String get(String path, Long userId) {
+        HttpHeaders headers = new HttpHeaders();
+        if (userId != null) {
+            headers.set("X-Sharer-User-Id", String.valueOf(userId));
+        }
+        return rest.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), String.class).getBody();
+    }
+
+    @Test
+    @DisplayName("Кэш ответов: повторный GET в пределах ttl не доходит до сервера")
+    void freshResponseIsServedFromCache() {
+        setUp(Duration.ofMinutes(1));
+        server.expect(ExpectedCount.once(), requestTo(SERVER_URL + "/users/1"))
+                .andRespond(withSuccess(USER_JSON, MediaType.APPLICATION_JSON));
+
+        assertThat(get("/users/1", null)).isEqualTo(USER_JSON);
+        assertThat(get("/users/1", null)).isEqualTo(USER_JSON);
+
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Кэш ответов: после ttl ответ перепроверяется по ETag, при 304 отдается сохраненное тело")
+    void staleResponseIsRevalidatedWithEtag() {
+        setUp(Duration.ZERO);
+        server.expect(requestTo(SERVER_URL + "/requests/1"))
+                .andRespond(withSuccess(USER_JSON, MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"v1\""));
+        server.expect(requestTo(SERVER_URL + "/requests/1"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        assertThat(get("/requests/1", null)).isEqualTo(USER_JSON);
+        assertThat(get("/requests/1", null)).isEqualTo(USER_JSON);
+
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Кэш ответов: вещь по id кэшируется отдельно для каждого пользователя")
+    void itemIsCachedPerUser() {
+        setUp(Duration.ofMinutes(1));
+        server.expect(ExpectedCount.times(2), requestTo(SERVER_URL + "/items/1"))
+                .andRespond(withSuccess(ITEM_JSON, MediaType.APPLICATION_JSON));
+
+        get("/items/1", 1L);
+        get("/items/1", 2L);
+        get("/items/1", 1L);
+        get("/items/1", 2L);
+
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Кэш ответов: поиск и запрос по id кэшируются общими для всех пользователей")
+    void searchAndRequestsAreSharedBetweenUsers() {
+        setUp(Duration.ofMinutes(1));
+        server.expect(ExpectedCount.once(), requestTo(SERVER_URL + "/items/search?text=drill"))
+                .andRespond(withSuccess("[" + ITEM_JSON + "]", MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), requestTo(SERVER_URL + "/requests/1"))
+                .andRespond(withSuccess(USER_JSON, MediaType.APPLICATION_JSON));
+
+        get("/items/search?text=drill", 1L);
+        get("/items/search?text=drill", 2L);
+        get("/requests/1", 1L);
+        get("/requests/1", 2L);
+
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Кэш ответов: изменение пользователя сбрасывает его запись и ответы по вещам")
+    void userUpdateInvalidatesItems() {
+        setUp(Duration.ofMinutes(1));
+        server.expect(requestTo(SERVER_URL + "/users/1"))
+                .andRespond(withSuccess(USER_JSON, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(SERVER_URL + "/items/1"))
+                .andRespond(withSuccess(ITEM_JSON, MediaType.APPLICATION_JSON));
+        server.expect(method(HttpMethod.PATCH))
+                .andRespond(withSuccess(USER_JSON, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(SERVER_URL + "/users/1"))
+                .andRespond(withSuccess(USER_JSON, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(SERVER_URL + "/items/1"))
+                .andRespond(withSuccess(ITEM_JSON, MediaType.APPLICATION_JSON));
+
+        get("/users/1", null);
+        get("/items/1", 1L);
+        rest.exchange("/users/1", HttpMethod.PATCH, new HttpEntity<>("{\"name\":\"User 2\"}"), String.class);
+        get("/users/1", null);
+        get("/items/1", 1L);
+
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Кэш ответов: изменение вещи через шлюз сбрасывает ее запись и результаты поиска")
+    void mutationInvalidatesResource() {
+        setUp(Duration.ofMinutes(1));
+        server.expect(requestTo(SERVER_URL + "/items/1"))
+                .andRespond(withSuccess(ITEM_JSON, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(SERVER_URL + "/items/search?text=drill"))
+                .andRespond(withSuccess("[" + ITEM_JSON + "]", MediaType.APPLICATION_JSON));
+        server.expect(method(HttpMethod.PATCH))
+                .andRespond(withSuccess(ITEM_JSON, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(SERVER_URL + "/items/1"))
+                .andRespond(withSuccess(ITEM_JSON, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(SERVER_URL + "/items/search?text=drill"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        get("/items/1", 1L);
+        get("/items/search?text=drill", 1L);
+        get("/items/1", 1L);
+        rest.exchange("/items/1", HttpMethod.PATCH, new HttpEntity<>("{\"name\":\"Дрель 2\"}"), String.class);
+        get("/items/1", 1L);
+
+        assertThat(get("/items/search?text=drill", 1L)).isEqualTo("[]");
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Кэш ответов: изменение вещи сбрасывает запросы, в ответах на которые она есть")
+    void itemUpdateInvalidatesRequests() {
+        setUp(Duration.ofMinutes(1));
+        String request = "{\"id\":1,\"items\":[" + ITEM_JSON + "]}";
+        String updatedRequest = "{\"id\":1,\"items\":[{\"id\":1,\"name\":\"Дрель 2\"}]}";
+        server.expect(requestTo(SERVER_URL + "/requests/1"))
+                .andRespond(withSuccess(request, MediaType.APPLICATION_JSON));
+        server.expect(method(HttpMethod.PATCH))
+                .andRespond(withSuccess(ITEM_JSON, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(SERVER_URL + "/requests/1"))
+                .andRespond(withSuccess(updatedRequest, MediaType.APPLICATION_JSON));
+
+        assertThat(get("/requests/1", 1L)).isEqualTo(request);
+        rest.exchange("/items/1", HttpMethod.PATCH, new HttpEntity<>("{\"name\":\"Дрель 2\"}"), String.class);
+
+        assertThat(get("/requests/1", 1L)).isEqualTo(updatedRequest);
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("Кэш ответов: ошибки сервера не кэшируются")
+    void errorsAreNotCached() {
+        setUp(Duration.ofMinutes(1));
+        server.expect(ExpectedCount.times(2), requestTo(SERVER_URL + "/users/2"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        assertThrows(HttpClientErrorException.NotFound.class, () -> get("/users/2", null));
+        assertThrows(HttpClientErrorException.NotFound.class, () -> get("/users/2", null));
+
+        server.verify();
+    }
+}
@@ -0,0 +1,107 @@
+package ru.practicum.shareit.client;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItGateway;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Нагрузочная проверка режима виртуальных потоков: шлюз с маленьким пулом Tomcat
+ * проксирует запросы к медленному серверу-заглушке.
+ */
+@Slf4j
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadCapacityTest {
+    private static final int CONCURRENT_REQUESTS = 100;
+    private static final long DOWNSTREAM_DELAY_MS = 500;
+    private static final byte[] USER_JSON = "{\"id\":1,\"name\":\"User\",\"email\":\"user@mail.ru\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer downstream;
+    private ExecutorService downstreamExecutor;
+
+    @BeforeEach
+    void startDownstream() throws Exception {
+        downstreamExecutor = Executors.newCachedThreadPool();
+        downstream = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENT_REQUESTS);
+        downstream.setExecutor(downstreamExecutor);
+        downstream.createContext("/users", exchange -> {
+            try {
+                Thread.sleep(DOWNSTREAM_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, USER_JSON.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(USER_JSON);
+            }
+        });
+        downstream.start();
+    }
+
+    @AfterEach
+    void stopDownstream() {
+        downstream.stop(0);
+        downstreamExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Виртуальные потоки: шлюз с 10 потоками Tomcat выдерживает 100 одновременных медленных запросов")
+    void virtualThreadsServeMoreConcurrentRequests() throws Exception {
+        long platform = runLoad(false);
+        long virtual = runLoad(true);
+
+        log.info("{} одновременных запросов: платформенные потоки {} мс, виртуальные потоки {} мс",
+                CONCURRENT_REQUESTS, platform, virtual);
+        assertThat(virtual * 2).isLessThan(platform);
+    }
+
+    private long runLoad(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ShareItGateway.class).run(
+                "--server.port=0",
+                "--server.tomcat.threads.max=10",
+                "--shareit-server.url=http://localhost:" + downstream.getAddress().getPort(),
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--logging.level.org.springframework.web.client.RestTemplate=INFO")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/users/1")).build();
+            // прогрев: первый запрос инициализирует DispatcherServlet и клиента
+            assertThat(client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode()).isEqualTo(200);
+
+            long started = System.nanoTime();
+            List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+            }
+            for (CompletableFuture<HttpResponse<String>> response : responses) {
+                assertThat(response.get().statusCode()).isEqualTo(200);
+            }
+            return (System.nanoTime() - started) / 1_000_000;
+        }
+    }
+}
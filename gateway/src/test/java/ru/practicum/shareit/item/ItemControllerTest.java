@@ -10,6 +10,8 @@ import org.springframework.http.ResponseEntity;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemCreateDto;
 
+import java.time.LocalDateTime;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
@@ -89,12 +91,29 @@ public class ItemControllerTest {
         String text = "query";
         ResponseEntity<Object> expectedResponse = ResponseEntity.ok("Search results");
 
-        when(itemClient.searchItems(userId, text)).thenReturn(expectedResponse);
+        when(itemClient.searchItems(userId, text, 0, 20)).thenReturn(expectedResponse);
+
+        ResponseEntity<Object> actualResponse = itemController.searchItems(userId, text, 0, 20);
+
+        assertEquals(expectedResponse, actualResponse);
+        verify(itemClient, times(1)).searchItems(userId, text, 0, 20);
+    }
+
+    @Test
+    @DisplayName("Получение свободных окон вещи")
+    void getAvailability_ReturnsResponseFromClient() {
+        Long userId = 1L;
+        Long itemId = 100L;
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(7);
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok("Free windows");
+
+        when(itemClient.getAvailability(userId, itemId, from, to, true)).thenReturn(expectedResponse);
 
-        ResponseEntity<Object> actualResponse = itemController.searchItems(userId, text);
+        ResponseEntity<Object> actualResponse = itemController.getAvailability(userId, itemId, from, to, true);
 
         assertEquals(expectedResponse, actualResponse);
-        verify(itemClient, times(1)).searchItems(userId, text);
+        verify(itemClient, times(1)).getAvailability(userId, itemId, from, to, true);
     }
 
     @Test
@@ -112,4 +131,18 @@ public class ItemControllerTest {
         assertEquals(expectedResponse, actualResponse);
         verify(itemClient, times(1)).createComment(userId, commentDto, itemId);
     }
+
+    @Test
+    @DisplayName("Получение вещей владельца с бронированиями и комментариями")
+    void getFullItemsForOwner_ReturnsResponseFromClient() {
+        Long ownerId = 1L;
+        ResponseEntity<Object> expectedResponse = ResponseEntity.ok("Full items");
+
+        when(itemClient.findAllFull(ownerId)).thenReturn(expectedResponse);
+
+        ResponseEntity<Object> actualResponse = itemController.getFullItemsForOwner(ownerId);
+
+        assertEquals(expectedResponse, actualResponse);
+        verify(itemClient, times(1)).findAllFull(ownerId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,225 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.server.ResponseStatusException;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ItemImporterTest {
+    private static final long OWNER = 1L;
+
+    @Mock
+    private ItemClient itemClient;
+
+    private ItemImporter importer;
+    private final List<List<ItemCreateDto>> sentChunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        importer = new ItemImporter(itemClient, Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper());
+    }
+
+    private void serverCreatesItems() {
+        AtomicLong ids = new AtomicLong(100);
+        when(itemClient.createAll(anyLong(), anyList())).thenAnswer(invocation -> {
+            List<ItemCreateDto> chunk = new ArrayList<>(invocation.getArgument(1));
+            sentChunks.add(chunk);
+            List<ItemImportResultDto> results = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(new ItemImportResultDto(i + 1, ids.incrementAndGet(), null));
+            }
+            return ResponseEntity.ok(results);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ItemImportResultDto> importItems(MediaType type, String body) throws IOException {
+        ResponseEntity<Object> response = importer.importItems(OWNER, type,
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return (List<ItemImportResultDto>) response.getBody();
+    }
+
+    @Test
+    @DisplayName("Импорт NDJSON: корректные строки отправляются серверу, ошибки возвращаются с номерами строк")
+    void ndjson_shouldValidateRows() throws IOException {
+        serverCreatesItems();
+        String body = String.join("\n",
+                "{\"name\":\"Дрель\",\"description\":\"Ударная дрель\",\"available\":true}",
+                "{\"name\":\"\",\"description\":\"Без названия\",\"available\":true}",
+                "",
+                "не json",
+                "{\"name\":\"Палатка\",\"description\":\"Палатка на двоих\",\"available\":false,\"requestId\":3}");
+
+        List<ItemImportResultDto> results = importItems(MediaType.APPLICATION_NDJSON, body);
+
+        assertThat(results).containsExactly(
+                new ItemImportResultDto(1, 101L, null),
+                new ItemImportResultDto(2, null, "name должен быть заполнен"),
+                new ItemImportResultDto(3, null, "Строка не является JSON-объектом вещи"),
+                new ItemImportResultDto(4, 102L, null));
+        assertThat(sentChunks).hasSize(1);
+        assertThat(sentChunks.get(0)).extracting(ItemCreateDto::getRequestId).containsExactly(null, 3L);
+    }
+
+    @Test
+    @DisplayName("Импорт NDJSON: null, массив и число вместо объекта — ошибки строк, а не всего импорта")
+    void ndjson_shouldRejectNonObjectRows() throws IOException {
+        serverCreatesItems();
+        String body = String.join("\n",
+                "null",
+                "[1, 2]",
+                "42",
+                "{\"name\":\"Дрель\",\"description\":\"Ударная дрель\",\"available\":true}");
+
+        List<ItemImportResultDto> results = importItems(MediaType.APPLICATION_NDJSON, body);
+
+        assertThat(results).containsExactly(
+                new ItemImportResultDto(1, null, "Строка не является JSON-объектом вещи"),
+                new ItemImportResultDto(2, null, "Строка не является JSON-объектом вещи"),
+                new ItemImportResultDto(3, null, "Строка не является JSON-объектом вещи"),
+                new ItemImportResultDto(4, 101L, null));
+    }
+
+    @Test
+    @DisplayName("Импорт CSV: столбцы по заголовку, кавычки, BOM и некорректные значения")
+    void csv_shouldParseQuotedFields() throws IOException {
+        serverCreatesItems();
+        String body = "\uFEFFavailable,name,description,requestId\r\n"
+                + "true,Дрель,\"Ударная, с кейсом\",\r\n"
+                + "false,\"Стол \"\"Лофт\"\"\",\"Две строки\nописания\",5\r\n"
+                + "да,Лыжи,Беговые,\r\n";
+
+        List<ItemImportResultDto> results = importItems(ItemImportReader.TEXT_CSV, body);
+
+        assertThat(results).extracting(ItemImportResultDto::getError)
+                .containsExactly(null, null, "available должен быть true или false");
+        assertThat(sentChunks.get(0)).containsExactly(
+                new ItemCreateDto("Дрель", "Ударная, с кейсом", true, null),
+                new ItemCreateDto("Стол \"Лофт\"", "Две строки\nописания", false, 5L));
+    }
+
+    @Test
+    @DisplayName("Импорт: строки отправляются порциями по CHUNK_SIZE")
+    void import_shouldSendChunks() throws IOException {
+        serverCreatesItems();
+        StringBuilder body = new StringBuilder("name,description,available\n");
+        int rows = ItemImporter.CHUNK_SIZE * 2 + 1;
+        for (int i = 0; i < rows; i++) {
+            body.append("Вещь ").append(i).append(",Описание,true\n");
+        }
+
+        List<ItemImportResultDto> results = importItems(ItemImportReader.TEXT_CSV, body.toString());
+
+        assertThat(sentChunks).extracting(List::size)
+                .containsExactly(ItemImporter.CHUNK_SIZE, ItemImporter.CHUNK_SIZE, 1);
+        assertThat(results).hasSize(rows);
+        assertThat(results.get(rows - 1)).isEqualTo(new ItemImportResultDto(rows, 100L + rows, null));
+    }
+
+    @Test
+    @DisplayName("Импорт: отказ сервера прерывает импорт и возвращается клиенту")
+    void import_shouldReturnServerRejection() throws IOException {
+        when(itemClient.createAll(eq(OWNER), anyList())).thenThrow(HttpClientErrorException.create(
+                HttpStatus.NOT_FOUND, "Not Found", null,
+                "{\"error\":\"Пользователь с id 1 не найден\"}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+
+        ResponseEntity<Object> response = importer.importItems(OWNER, MediaType.APPLICATION_NDJSON,
+                new ByteArrayInputStream("{\"name\":\"Дрель\",\"description\":\"Дрель\",\"available\":true}"
+                        .getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Импорт: после отказа сервера в следующей порции сохраненные строки возвращаются с id")
+    void import_whenLaterChunkRejected_shouldReturnSavedRows() throws IOException {
+        AtomicLong ids = new AtomicLong(100);
+        when(itemClient.createAll(eq(OWNER), anyList())).thenAnswer(invocation -> {
+            List<ItemCreateDto> chunk = invocation.getArgument(1);
+            List<ItemImportResultDto> results = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(new ItemImportResultDto(i + 1, ids.incrementAndGet(), null));
+            }
+            return ResponseEntity.ok(results);
+        }).thenThrow(HttpClientErrorException.create(HttpStatus.CONFLICT, "Conflict", null,
+                "Пользователь удален".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+        StringBuilder body = new StringBuilder("name,description,available\n");
+        int rows = ItemImporter.CHUNK_SIZE * 2 + 1;
+        for (int i = 0; i < rows; i++) {
+            body.append("Вещь ").append(i).append(",Описание,true\n");
+        }
+
+        List<ItemImportResultDto> results = importItems(ItemImportReader.TEXT_CSV, body.toString());
+
+        assertThat(results).hasSize(rows);
+        assertThat(results.subList(0, ItemImporter.CHUNK_SIZE)).allMatch(result -> result.getId() != null);
+        assertThat(results.get(ItemImporter.CHUNK_SIZE)).isEqualTo(new ItemImportResultDto(ItemImporter.CHUNK_SIZE + 1,
+                null, "Порция отклонена сервером: 409 Пользователь удален"));
+        assertThat(results.subList(ItemImporter.CHUNK_SIZE, rows - 1)).allMatch(result -> result.getId() == null);
+        assertThat(results.get(rows - 1)).isEqualTo(new ItemImportResultDto(rows, null, ItemImporter.NOT_SENT));
+        verify(itemClient, times(2)).createAll(eq(OWNER), anyList());
+    }
+
+    @Test
+    @DisplayName("Импорт CSV: заголовок без обязательного столбца отклоняется")
+    void csv_shouldRejectHeaderWithoutRequiredColumn() {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> importItems(
+                ItemImportReader.TEXT_CSV, "name,description\nДрель,Ударная\n"));
+
+        assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(itemClient, never()).createAll(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("Импорт: контроллер принимает CSV и возвращает результаты по строкам")
+    void controller_shouldAcceptCsv() throws Exception {
+        serverCreatesItems();
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new ItemController(itemClient, importer)).build();
+
+        mvc.perform(post("/items/bulk")
+                        .header("X-Sharer-User-Id", OWNER)
+                        .contentType("text/csv")
+                        .content("name,description,available\nДрель,Ударная,true\n,Без названия,true\n"
+                                .getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(101))
+                .andExpect(jsonPath("$[1].row").value(2))
+                .andExpect(jsonPath("$[1].error").value("name должен быть заполнен"));
+    }
+}
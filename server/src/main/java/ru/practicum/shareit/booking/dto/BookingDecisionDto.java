@@ -0,0 +1,18 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Решение владельца сразу по нескольким бронированиям ({@code PATCH /bookings/bulk}).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingDecisionDto {
+    private List<Long> bookingIds;
+    private Boolean approved;
+}
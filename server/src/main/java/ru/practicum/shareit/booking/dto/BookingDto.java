@@ -19,4 +19,15 @@ public class BookingDto {
     ItemDtoForRequest item;
     UserDto booker;
     BookingStatus status;
-}
\ No newline at end of file
+
+    /**
+     * Конструктор для JPQL-проекции: бронирование читается из базы сразу в DTO, без загрузки сущностей.
+     */
+    public BookingDto(Long id, LocalDateTime start, LocalDateTime end,
+                      Long itemId, String itemName, Long itemOwner,
+                      Long bookerId, String bookerName, String bookerEmail,
+                      BookingStatus status) {
+        this(id, start, end, new ItemDtoForRequest(itemId, itemName, itemOwner),
+                new UserDto(bookerId, bookerName, bookerEmail), status);
+    }
+}
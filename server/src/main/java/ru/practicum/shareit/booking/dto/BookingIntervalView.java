@@ -0,0 +1,16 @@
+package ru.practicum.shareit.booking.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Период бронирования вещи, читаемый нативным запросом без загрузки сущности.
+ */
+public interface BookingIntervalView {
+    Long getId();
+
+    Long getItemId();
+
+    LocalDateTime getStart();
+
+    LocalDateTime getEnd();
+}
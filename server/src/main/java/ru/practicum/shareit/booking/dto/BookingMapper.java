@@ -18,6 +18,7 @@ public interface BookingMapper {
     @Mapping(target = "status", source = "status")
     @Mapping(target = "start", source = "dto.start")
     @Mapping(target = "end", source = "dto.end")
+    @Mapping(target = "version", ignore = true)
     Booking toBooking(Long id, BookingCreationDto dto, Item item, User user, BookingStatus status);
 
     @Mapping(target = "itemId", source = "booking.item.id")
@@ -26,4 +27,10 @@ public interface BookingMapper {
     @Mapping(target = "item", source = "item")
     @Mapping(target = "booker", source = "booker")
     BookingDto toBookingDto(Booking booking);
-}
\ No newline at end of file
+
+    default BookingDto viewToBookingDto(BookingView booking) {
+        return new BookingDto(booking.getId(), booking.getStart(), booking.getEnd(),
+                booking.getItemId(), booking.getItemName(), booking.getItemOwner(),
+                booking.getBookerId(), booking.getBookerName(), booking.getBookerEmail(), booking.getStatus());
+    }
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.booking.dto;
+
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Поля бронирования, вещи и бронирующего, читаемые нативным запросом без загрузки сущностей.
+ */
+public interface BookingView {
+    Long getId();
+
+    LocalDateTime getStart();
+
+    LocalDateTime getEnd();
+
+    Long getItemId();
+
+    String getItemName();
+
+    Long getItemOwner();
+
+    Long getBookerId();
+
+    String getBookerName();
+
+    String getBookerEmail();
+
+    BookingStatus getStatus();
+}
@@ -0,0 +1,26 @@
+package ru.practicum.shareit.booking.overlap;
+
+import java.time.LocalDateTime;
+
+/**
+ * Проверка пересечения бронирования с уже подтвержденными бронированиями той же вещи.
+ * Интервалы полуоткрытые: {@code [start, end)}.
+ */
+public interface BookingOverlapGuard {
+
+    /**
+     * Проверяет, что период свободен от подтвержденных бронирований. Ничего не резервирует.
+     *
+     * @throws ru.practicum.shareit.exception.ConflictException если период занят
+     */
+    void checkAvailable(Long itemId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Атомарно проверяет и занимает период подтверждаемого бронирования {@code bookingId}.
+     * Вызывается внутри транзакции подтверждения; само бронирование при проверке не учитывается, даже если
+     * уже переведено в {@code APPROVED}. При откате транзакции период освобождается.
+     *
+     * @throws ru.practicum.shareit.exception.ConflictException если период занят
+     */
+    void reserve(Long bookingId, Long itemId, LocalDateTime start, LocalDateTime end);
+}
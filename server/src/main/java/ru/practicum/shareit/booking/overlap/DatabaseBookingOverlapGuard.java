@@ -0,0 +1,45 @@
+package ru.practicum.shareit.booking.overlap;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.service.BookingRepository;
+import ru.practicum.shareit.exception.ConflictException;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.service.ItemRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Проверка пересечений запросом к базе. Подтверждения одной вещи сериализуются блокировкой строки
+ * {@code items} ({@code SELECT ... FOR UPDATE}), поэтому бронирования разных вещей не мешают друг другу.
+ * В профиле postgres дополнительно действует ограничение {@code EXCLUDE USING gist} на таблице {@code bookings}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.booking.overlap-guard", havingValue = "database", matchIfMissing = true)
+public class DatabaseBookingOverlapGuard implements BookingOverlapGuard {
+    private static final Long NO_BOOKING = -1L;
+
+    private final BookingRepository bookingRepository;
+    private final ItemRepository itemRepository;
+
+    @Override
+    public void checkAvailable(Long itemId, LocalDateTime start, LocalDateTime end) {
+        check(itemId, start, end, NO_BOOKING);
+    }
+
+    @Override
+    public void reserve(Long bookingId, Long itemId, LocalDateTime start, LocalDateTime end) {
+        itemRepository.lockById(itemId)
+                .orElseThrow(() -> new NotFoundException("Вещь с id " + itemId + " не найдена"));
+        check(itemId, start, end, bookingId);
+    }
+
+    private void check(Long itemId, LocalDateTime start, LocalDateTime end, Long excludeId) {
+        if (bookingRepository.existsOverlap(itemId, BookingStatus.APPROVED, start, end, excludeId)) {
+            throw new ConflictException("Вещь " + itemId + " уже забронирована на период с " + start + " по " + end);
+        }
+    }
+}
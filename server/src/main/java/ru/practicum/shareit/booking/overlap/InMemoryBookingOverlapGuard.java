@@ -0,0 +1,120 @@
+package ru.practicum.shareit.booking.overlap;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.service.BookingRepository;
+import ru.practicum.shareit.exception.ConflictException;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Проверка пересечений по интервалам в памяти процесса. Для каждой вещи хранится дерево
+ * непересекающихся подтвержденных интервалов (начало → конец), загружаемое из базы при первом обращении,
+ * поэтому проверка занимает O(log n). Вещи распределены по фиксированному набору блокировок,
+ * так что подтверждения разных вещей выполняются параллельно.
+ * <p>
+ * Подходит только для одного экземпляра сервера: другие экземпляры не видят резервирований.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.booking.overlap-guard", havingValue = "memory")
+public class InMemoryBookingOverlapGuard implements BookingOverlapGuard {
+    private static final int STRIPES = 64;
+    private static final Long NO_BOOKING = -1L;
+
+    private final BookingRepository bookingRepository;
+
+    private final Map<Long, NavigableMap<LocalDateTime, LocalDateTime>> intervals = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = createLocks();
+
+    @Override
+    public void checkAvailable(Long itemId, LocalDateTime start, LocalDateTime end) {
+        ReentrantLock lock = lockFor(itemId);
+        lock.lock();
+        try {
+            checkFree(itemId, intervalsOf(itemId, NO_BOOKING), start, end);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void reserve(Long bookingId, Long itemId, LocalDateTime start, LocalDateTime end) {
+        ReentrantLock lock = lockFor(itemId);
+        lock.lock();
+        try {
+            NavigableMap<LocalDateTime, LocalDateTime> tree = intervalsOf(itemId, bookingId);
+            checkFree(itemId, tree, start, end);
+            tree.put(start, end);
+        } finally {
+            lock.unlock();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(itemId, start);
+                    }
+                }
+            });
+        }
+    }
+
+    private void release(Long itemId, LocalDateTime start) {
+        ReentrantLock lock = lockFor(itemId);
+        lock.lock();
+        try {
+            intervalsOf(itemId, NO_BOOKING).remove(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void checkFree(Long itemId, NavigableMap<LocalDateTime, LocalDateTime> tree,
+                                  LocalDateTime start, LocalDateTime end) {
+        Map.Entry<LocalDateTime, LocalDateTime> previous = tree.lowerEntry(end);
+        if (previous != null && previous.getValue().isAfter(start)) {
+            throw new ConflictException("Вещь " + itemId + " уже забронирована на период с " + start + " по " + end);
+        }
+    }
+
+    /**
+     * Вызывается под блокировкой вещи. Бронирование {@code excludeId} могло быть уже переведено в {@code APPROVED}
+     * текущей транзакцией, но еще не зарезервировано, поэтому при загрузке из базы оно пропускается.
+     */
+    private NavigableMap<LocalDateTime, LocalDateTime> intervalsOf(Long itemId, Long excludeId) {
+        NavigableMap<LocalDateTime, LocalDateTime> tree = intervals.get(itemId);
+        if (tree == null) {
+            NavigableMap<LocalDateTime, LocalDateTime> loaded = new TreeMap<>();
+            bookingRepository.findByItemIdAndStatus(itemId, BookingStatus.APPROVED)
+                    .stream()
+                    .filter(booking -> !booking.getId().equals(excludeId))
+                    .forEach(booking -> loaded.put(booking.getStart(), booking.getEnd()));
+            intervals.put(itemId, loaded);
+            tree = loaded;
+        }
+        return tree;
+    }
+
+    private ReentrantLock lockFor(Long itemId) {
+        return locks[Math.floorMod(itemId.hashCode(), STRIPES)];
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] result = new ReentrantLock[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            result[i] = new ReentrantLock();
+        }
+        return result;
+    }
+}
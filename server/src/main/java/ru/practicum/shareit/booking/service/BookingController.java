@@ -4,7 +4,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 
 import java.util.List;
 
@@ -33,6 +36,13 @@ public class BookingController {
         return service.bookingApproved(user, bookingId, approved);
     }
 
+    @PatchMapping("/bulk")
+    public List<BookingDecisionResultDto> updateAll(@RequestHeader(USER_ID_HEADER) Long user,
+                                                    @RequestBody BookingDecisionDto decision) {
+        log.info("Решение {} по бронированиям {}", decision.getApproved(), decision.getBookingIds());
+        return service.bookingsApproved(user, decision);
+    }
+
     @GetMapping("/{bookingId}")
     public BookingDto getBookingById(@RequestHeader(USER_ID_HEADER) Long user,
                                      @PathVariable("bookingId") Long bookingId) {
@@ -53,4 +63,22 @@ public class BookingController {
         log.info("Владелец вещей {} запрашивает информацию о {} бронированиях", user, state);
         return service.getBookingByOwnerId(user, state);
     }
+
+    @GetMapping("/page")
+    public BookingPageDto getBookingPageForUser(@RequestHeader(USER_ID_HEADER) Long user,
+                                                @RequestParam(value = "state", defaultValue = "ALL") String state,
+                                                @RequestParam(value = "cursor", required = false) String cursor,
+                                                @RequestParam(value = "size", defaultValue = "20") Integer size) {
+        log.info("Пользователь {} запрашивает страницу {} бронирований после {}", user, state, cursor);
+        return service.getBookingPageByUserId(user, state, cursor, size);
+    }
+
+    @GetMapping("/owner/page")
+    public BookingPageDto getBookingPageForOwner(@RequestHeader(USER_ID_HEADER) Long user,
+                                                 @RequestParam(value = "state", defaultValue = "ALL") String state,
+                                                 @RequestParam(value = "cursor", required = false) String cursor,
+                                                 @RequestParam(value = "size", defaultValue = "20") Integer size) {
+        log.info("Владелец вещей {} запрашивает страницу {} бронирований после {}", user, state, cursor);
+        return service.getBookingPageByOwnerId(user, state, cursor, size);
+    }
 }
\ No newline at end of file
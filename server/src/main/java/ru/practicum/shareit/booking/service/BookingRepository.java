@@ -1,52 +1,136 @@
 package ru.practicum.shareit.booking.service;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.booking.dto.BookingCreationDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    //ALL state by bookerId
-    List<Booking> findByBookerIdOrderByStartDesc(Long bookerId);
-
-    //CURRENT state by bookingId
-    List<Booking> findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(Long bookerId, LocalDateTime end, LocalDateTime start);
-
-    //PAST state by bookingId
-    List<Booking> findByBookerIdAndEndBeforeOrderByStartDesc(Long bookerId, LocalDateTime end);
-
-    //FUTURE state by bookingId
-    List<Booking> findByBookerIdAndStartAfterOrderByStartDesc(Long bookerId, LocalDateTime start);
-
-    //WAITING state by bookingId
-    List<Booking> findByBookerIdAndStatusAndStartAfterOrderByStartDesc(Long bookerId, BookingStatus status, LocalDateTime start);
-
-    //REJECT state by bookingId
-    List<Booking> findByBookerIdAndStatusOrderByStartDesc(Long bookerId, BookingStatus status);
-
-    //ALL state by ownerId
-    List<Booking> findByItem_OwnerOrderByStartDesc(Long ownerId);
-
-    //CURRENT state by ownerId
-    List<Booking> findByItem_OwnerAndStartBeforeAndEndAfterOrderByStartDesc(Long ownerId, LocalDateTime end, LocalDateTime start);
-
-    //PAST state by ownerId
-    List<Booking> findByItem_OwnerAndEndBeforeOrderByStartDesc(Long ownerId, LocalDateTime end);
-
-    //FUTURE state by ownerId
-    List<Booking> findByItem_OwnerAndStartAfterOrderByStartDesc(Long ownerId, LocalDateTime start);
-
-    //WAITING state by ownerId
-    List<Booking> findByItem_OwnerAndStatusAndStartAfterOrderByStartDesc(Long ownerId, BookingStatus status, LocalDateTime start);
-
-    //REJECT state by ownerId
-    List<Booking> findByItem_OwnerAndStatusOrderByStartDesc(Long ownerId, BookingStatus status);
+    @Override
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    Optional<Booking> findById(Long id);
+
+    @Query("SELECT new ru.practicum.shareit.booking.dto.BookingDto(b.id, b.start, b.end, " +
+            "i.id, i.name, i.owner, u.id, u.name, u.email, b.status) " +
+            "FROM Booking b JOIN b.item i JOIN b.booker u WHERE b.id IN :ids")
+    List<BookingDto> findDtosByIds(@Param("ids") Collection<Long> ids);
+
+    //Owner's WAITING bookings among ids, row-locked in id order (no deadlocks between overlapping decisions)
+    @Query(value = "SELECT id AS \"id\", item_id AS \"itemId\", start_date AS \"start\", end_date AS \"end\" " +
+            "FROM bookings WHERE id IN (:ids) AND status = 'WAITING' " +
+            "AND item_id IN (SELECT id FROM items WHERE user_id = :ownerId) " +
+            "ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<BookingIntervalView> findWaitingForUpdate(@Param("ids") Collection<Long> ids, @Param("ownerId") Long ownerId);
+
+    //Owner's decision: changes status only if the booking is WAITING and the item belongs to ownerId
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :status, b.version = b.version + 1 " +
+            "WHERE b.id IN :ids AND b.status = 'WAITING' " +
+            "AND b.item.id IN (SELECT i.id FROM Item i WHERE i.owner = :ownerId)")
+    int updateWaitingStatus(@Param("ids") Collection<Long> ids, @Param("ownerId") Long ownerId,
+                            @Param("status") BookingStatus status);
+
+    //Same conditional update, the changed rows are read back by the same statement (H2 data change delta table)
+    @Query(value = "SELECT b.id AS \"id\", b.start_date AS \"start\", b.end_date AS \"end\", " +
+            "i.id AS \"itemId\", i.name AS \"itemName\", i.user_id AS \"itemOwner\", " +
+            "u.id AS \"bookerId\", u.name AS \"bookerName\", u.email AS \"bookerEmail\", b.status AS \"status\" " +
+            "FROM FINAL TABLE (UPDATE bookings SET status = :status, version = version + 1 " +
+            "WHERE id IN (:ids) AND status = 'WAITING' " +
+            "AND item_id IN (SELECT id FROM items WHERE user_id = :ownerId)) AS b " +
+            "JOIN items AS i ON i.id = b.item_id JOIN users AS u ON u.id = b.booker_id", nativeQuery = true)
+    List<BookingView> updateWaitingStatusH2(@Param("ids") Collection<Long> ids, @Param("ownerId") Long ownerId,
+                                            @Param("status") String status);
+
+    //Same conditional update with RETURNING in a data-modifying CTE (PostgreSQL)
+    @Query(value = "WITH b AS (UPDATE bookings SET status = :status, version = version + 1 " +
+            "WHERE id IN (:ids) AND status = 'WAITING' " +
+            "AND item_id IN (SELECT id FROM items WHERE user_id = :ownerId) RETURNING *) " +
+            "SELECT b.id AS \"id\", b.start_date AS \"start\", b.end_date AS \"end\", " +
+            "i.id AS \"itemId\", i.name AS \"itemName\", i.user_id AS \"itemOwner\", " +
+            "u.id AS \"bookerId\", u.name AS \"bookerName\", u.email AS \"bookerEmail\", b.status AS \"status\" " +
+            "FROM b JOIN items AS i ON i.id = b.item_id JOIN users AS u ON u.id = b.booker_id", nativeQuery = true)
+    List<BookingView> updateWaitingStatusPostgres(@Param("ids") Collection<Long> ids, @Param("ownerId") Long ownerId,
+                                                  @Param("status") String status);
+
+    //State-filtered bookings of a booker projected straight into BookingDto, ordered by (start_date, id) desc
+    @Query("SELECT new ru.practicum.shareit.booking.dto.BookingDto(b.id, b.start, b.end, " +
+            "i.id, i.name, i.owner, u.id, u.name, u.email, b.status) " +
+            "FROM Booking b JOIN b.item i JOIN b.booker u WHERE u.id = :bookerId " +
+            "AND b.status IN :statuses " +
+            "AND b.start > :startAfter AND b.start < :startBefore " +
+            "AND b.end > :endAfter AND b.end < :endBefore " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<BookingDto> findBookerDtos(@Param("bookerId") Long bookerId,
+                                    @Param("statuses") Collection<BookingStatus> statuses,
+                                    @Param("startAfter") LocalDateTime startAfter,
+                                    @Param("startBefore") LocalDateTime startBefore,
+                                    @Param("endAfter") LocalDateTime endAfter,
+                                    @Param("endBefore") LocalDateTime endBefore);
+
+    //State-filtered bookings of an owner's items projected straight into BookingDto
+    @Query("SELECT new ru.practicum.shareit.booking.dto.BookingDto(b.id, b.start, b.end, " +
+            "i.id, i.name, i.owner, u.id, u.name, u.email, b.status) " +
+            "FROM Booking b JOIN b.item i JOIN b.booker u WHERE i.owner = :ownerId " +
+            "AND b.status IN :statuses " +
+            "AND b.start > :startAfter AND b.start < :startBefore " +
+            "AND b.end > :endAfter AND b.end < :endBefore " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<BookingDto> findOwnerDtos(@Param("ownerId") Long ownerId,
+                                   @Param("statuses") Collection<BookingStatus> statuses,
+                                   @Param("startAfter") LocalDateTime startAfter,
+                                   @Param("startBefore") LocalDateTime startBefore,
+                                   @Param("endAfter") LocalDateTime endAfter,
+                                   @Param("endBefore") LocalDateTime endBefore);
+
+    //Keyset page by bookerId, ordered by (start_date, id) desc
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @Query("SELECT b FROM Booking b WHERE b.booker.id = :bookerId " +
+            "AND b.status IN :statuses " +
+            "AND b.start > :startAfter AND b.start < :startBefore " +
+            "AND b.end > :endAfter AND b.end < :endBefore " +
+            "AND (b.start < :cursorStart OR (b.start = :cursorStart AND b.id < :cursorId)) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findBookerPage(@Param("bookerId") Long bookerId,
+                                 @Param("statuses") Collection<BookingStatus> statuses,
+                                 @Param("startAfter") LocalDateTime startAfter,
+                                 @Param("startBefore") LocalDateTime startBefore,
+                                 @Param("endAfter") LocalDateTime endAfter,
+                                 @Param("endBefore") LocalDateTime endBefore,
+                                 @Param("cursorStart") LocalDateTime cursorStart,
+                                 @Param("cursorId") Long cursorId,
+                                 Pageable pageable);
+
+    //Keyset page by ownerId, ordered by (start_date, id) desc
+    @EntityGraph(Booking.DETAILS_GRAPH)
+    @Query("SELECT b FROM Booking b WHERE b.item.owner = :ownerId " +
+            "AND b.status IN :statuses " +
+            "AND b.start > :startAfter AND b.start < :startBefore " +
+            "AND b.end > :endAfter AND b.end < :endBefore " +
+            "AND (b.start < :cursorStart OR (b.start = :cursorStart AND b.id < :cursorId)) " +
+            "ORDER BY b.start DESC, b.id DESC")
+    List<Booking> findOwnerPage(@Param("ownerId") Long ownerId,
+                                @Param("statuses") Collection<BookingStatus> statuses,
+                                @Param("startAfter") LocalDateTime startAfter,
+                                @Param("startBefore") LocalDateTime startBefore,
+                                @Param("endAfter") LocalDateTime endAfter,
+                                @Param("endBefore") LocalDateTime endBefore,
+                                @Param("cursorStart") LocalDateTime cursorStart,
+                                @Param("cursorId") Long cursorId,
+                                Pageable pageable);
 
     @Query(value = "SELECT b.* FROM bookings as b " +
             "JOIN items as i ON i.id = b.item_id " +
@@ -60,4 +144,33 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query(value = "SELECT * FROM bookings WHERE item_id = :itemId AND start_date > :now " +
             "AND status = 'APPROVED' ORDER BY start_date ASC LIMIT 1", nativeQuery = true)
     Optional<Booking> getNextBooking(@Param("itemId") Long itemId, @Param("now") LocalDateTime now);
-}
\ No newline at end of file
+
+    @Query("SELECT new ru.practicum.shareit.booking.dto.BookingCreationDto(b.item.id, b.start, b.end) " +
+            "FROM Booking b WHERE b.item.id IN :itemIds AND b.status = 'APPROVED' AND b.start < :now " +
+            "AND b.start = (SELECT MAX(l.start) FROM Booking l WHERE l.item.id = b.item.id " +
+            "AND l.status = 'APPROVED' AND l.start < :now)")
+    List<BookingCreationDto> findLastBookings(@Param("itemIds") Collection<Long> itemIds,
+                                              @Param("now") LocalDateTime now);
+
+    @Query("SELECT new ru.practicum.shareit.booking.dto.BookingCreationDto(b.item.id, b.start, b.end) " +
+            "FROM Booking b WHERE b.item.id IN :itemIds AND b.status = 'APPROVED' AND b.start > :now " +
+            "AND b.start = (SELECT MIN(n.start) FROM Booking n WHERE n.item.id = b.item.id " +
+            "AND n.status = 'APPROVED' AND n.start > :now)")
+    List<BookingCreationDto> findNextBookings(@Param("itemIds") Collection<Long> itemIds,
+                                              @Param("now") LocalDateTime now);
+
+    @Query("SELECT COUNT(b) > 0 FROM Booking b " +
+            "WHERE b.item.id = :itemId AND b.status = :status AND b.id <> :excludeId " +
+            "AND b.start < :end AND b.end > :start")
+    boolean existsOverlap(@Param("itemId") Long itemId, @Param("status") BookingStatus status,
+                          @Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+                          @Param("excludeId") Long excludeId);
+
+    @Query("SELECT b FROM Booking b WHERE b.item.id = :itemId AND b.status = :status ORDER BY b.start")
+    List<Booking> findByItemIdAndStatus(@Param("itemId") Long itemId, @Param("status") BookingStatus status);
+
+    @Query("SELECT new ru.practicum.shareit.booking.dto.BookingCreationDto(b.item.id, b.start, b.end) " +
+            "FROM Booking b WHERE b.item.id = :itemId AND b.status IN :statuses ORDER BY b.start")
+    List<BookingCreationDto> findBusyIntervals(@Param("itemId") Long itemId,
+                                               @Param("statuses") Collection<BookingStatus> statuses);
+}
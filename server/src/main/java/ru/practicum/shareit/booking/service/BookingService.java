@@ -1,7 +1,10 @@
 package ru.practicum.shareit.booking.service;
 
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 
 import java.util.List;
 
@@ -11,9 +14,19 @@ public interface BookingService {
 
     BookingDto bookingApproved(Long userId, Long bookingId, boolean approved);
 
+    /**
+     * Решение владельца по нескольким бронированиям в одной транзакции. Результаты идут в порядке запроса,
+     * повторяющиеся id учитываются один раз.
+     */
+    List<BookingDecisionResultDto> bookingsApproved(Long userId, BookingDecisionDto decision);
+
     BookingDto getBooking(Long userId, Long bookingId);
 
     List<BookingDto> getBookingByUserId(Long id, String state);
 
     List<BookingDto> getBookingByOwnerId(Long id, String state);
+
+    BookingPageDto getBookingPageByUserId(Long id, String state, String cursor, int size);
+
+    BookingPageDto getBookingPageByOwnerId(Long id, String state, String cursor, int size);
 }
@@ -1,82 +1,207 @@
 package ru.practicum.shareit.booking.service;
 
-import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
 import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.overlap.BookingOverlapGuard;
+import ru.practicum.shareit.booking.status.BookingStatusUpdater;
+import ru.practicum.shareit.context.EntityContext;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemAvailabilityService;
 import ru.practicum.shareit.item.service.ItemRepository;
+import ru.practicum.shareit.retry.RetryOnConflict;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_DECISION_SIZE = 100;
+
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
     private final BookingMapper bookingMapper;
+    private final BookingOverlapGuard bookingOverlapGuard;
+    private final BookingStatusUpdater bookingStatusUpdater;
+    private final ItemAvailabilityService itemAvailabilityService;
+    private final EntityContext entityContext;
 
 
     @Override
     public BookingDto createBooking(Long userId, BookingCreationDto bookingCreationDto) {
-        log.info("Проверяем существования пользователя {}", userId);
-        getUser(userId);
+        log.info("Получаем пользователя {}, который хочет забронировать вещь", userId);
+        User user = getUser(userId);
         log.info("Проверка корректной даты бронирования {}", bookingCreationDto);
         checkData(bookingCreationDto);
         log.info("Получение вещи, которую хотят забронировать");
-        Item item = itemRepository.findById(bookingCreationDto.getItemId())
+        Item item = entityContext.find(Item.class, bookingCreationDto.getItemId(), itemRepository::findCachedById)
                 .orElseThrow(() -> new NotFoundException("Вещь с id " + bookingCreationDto.getItemId() + " не найдена"));
         if (!item.getAvailable()) {
             log.error("Вещь недоступна для бронирования.");
             throw new IllegalStateException("Вещь недоступна для бронирования.");
         }
-        log.info("Получение пользователя, который хочет забронировать вещь");
-        User user = getUser(userId);
+        log.info("Проверяем, что период не пересекается с подтвержденными бронированиями");
+        bookingOverlapGuard.checkAvailable(item.getId(), bookingCreationDto.getStart(), bookingCreationDto.getEnd());
 
-        Booking booking = bookingMapper.toBooking(0L, bookingCreationDto, item, user, BookingStatus.WAITING);
+        Booking booking = bookingMapper.toBooking(null, bookingCreationDto, item, user, BookingStatus.WAITING);
         log.info("Сохраняем запрос на бронирование");
+        itemAvailabilityService.invalidate(item.getId());
         return bookingMapper.toBookingDto(bookingRepository.save(booking));
     }
 
     @Override
+    @RetryOnConflict
     public BookingDto bookingApproved(Long userId, Long bookingId, boolean approved) {
-        log.info("Получаем информацию о запросе бронирования {}", bookingId);
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new NotFoundException("Бронирование с id " + bookingId + " не найдено"));
-
-        log.info("Проверяем статус бронирования");
-        if (booking.getStatus() != BookingStatus.WAITING) {
-            throw new IllegalStateException("Статус можно изменить только у бронирования со статусом WAITING.");
+        BookingStatus status = approved ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+        log.info("Изменение статуса бронирования {} на {}", bookingId, status);
+        BookingDto booking;
+        try {
+            booking = bookingStatusUpdater.updateWaiting(bookingId, userId, status)
+                    .orElseThrow(() -> statusNotChanged(userId, bookingId, findDto(bookingId)));
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("Период бронирования " + bookingId + " пересекается с подтвержденным бронированием");
+        }
+        if (approved) {
+            log.info("Резервируем период бронирования {}", bookingId);
+            bookingOverlapGuard.reserve(bookingId, booking.getItem().getId(), booking.getStart(), booking.getEnd());
         }
+        itemAvailabilityService.invalidate(booking.getItem().getId());
+        return booking;
+    }
 
-        log.info("Получаем вещь, которую хотят забронировать");
-        Item item = booking.getItem();
+    @Override
+    @RetryOnConflict
+    public List<BookingDecisionResultDto> bookingsApproved(Long userId, BookingDecisionDto decision) {
+        List<Long> bookingIds = decision.getBookingIds();
+        if (bookingIds == null || bookingIds.isEmpty() || bookingIds.size() > MAX_DECISION_SIZE
+                || bookingIds.stream().anyMatch(Objects::isNull)) {
+            throw new ValidationException("Число бронирований в решении должно быть от 1 до " + MAX_DECISION_SIZE);
+        }
+        if (decision.getApproved() == null) {
+            throw new ValidationException("Поле approved должно быть заполнено");
+        }
+        boolean approved = decision.getApproved();
+        Set<Long> ids = new LinkedHashSet<>(bookingIds);
+        BookingStatus status = approved ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+        log.info("Изменение статуса {} бронирований владельца {} на {}", ids.size(), userId, status);
+        Map<Long, String> errors = new HashMap<>();
+        Collection<Long> decided = approved ? reserveAll(ids, userId, errors) : ids;
+        Set<Long> changed = new HashSet<>();
+        if (!decided.isEmpty()) {
+            try {
+                for (BookingDto booking : bookingStatusUpdater.updateWaiting(decided, userId, status)) {
+                    changed.add(booking.getId());
+                    itemAvailabilityService.invalidate(booking.getItem().getId());
+                }
+            } catch (DataIntegrityViolationException e) {
+                throw new ConflictException("Периоды бронирований пересекаются с подтвержденными бронированиями");
+            }
+        }
+        List<Long> notChanged = ids.stream()
+                .filter(id -> !changed.contains(id) && !errors.containsKey(id))
+                .toList();
+        if (!notChanged.isEmpty()) {
+            log.info("Выясняем, почему не изменены бронирования {}", notChanged);
+            Map<Long, BookingDto> found = bookingRepository.findDtosByIds(notChanged).stream()
+                    .collect(Collectors.toMap(BookingDto::getId, Function.identity()));
+            notChanged.forEach(id -> errors.put(id,
+                    statusNotChanged(userId, id, Optional.ofNullable(found.get(id))).getMessage()));
+        }
+        return ids.stream()
+                .map(id -> changed.contains(id)
+                        ? new BookingDecisionResultDto(id, status, null)
+                        : new BookingDecisionResultDto(id, null, errors.get(id)))
+                .toList();
+    }
 
-        if (userId.equals(item.getOwner())) {
-            if (approved) {
-                booking.setStatus(BookingStatus.APPROVED);
-            } else {
-                booking.setStatus(BookingStatus.REJECTED);
+    /**
+     * Блокирует ожидающие решения бронирования владельца и резервирует их периоды в порядке запроса. Бронирования,
+     * пересекающиеся с подтвержденными или с уже зарезервированными из этого же запроса, попадают в {@code errors}.
+     *
+     * @return id бронирований, которые можно одобрить
+     */
+    private List<Long> reserveAll(Set<Long> ids, Long userId, Map<Long, String> errors) {
+        Map<Long, BookingIntervalView> waiting = bookingRepository.findWaitingForUpdate(ids, userId).stream()
+                .collect(Collectors.toMap(BookingIntervalView::getId, Function.identity()));
+        List<BookingIntervalView> reserved = new ArrayList<>();
+        for (Long id : ids) {
+            BookingIntervalView booking = waiting.get(id);
+            if (booking == null) {
+                continue;
             }
-            log.info("Изменение статуса бронирования");
-            return bookingMapper.toBookingDto(bookingRepository.save(booking));
-        } else {
-            throw new ValidationException("Одобрить бронирование может только владелец вещи");
+            Optional<BookingIntervalView> overlapping = reserved.stream()
+                    .filter(other -> other.getItemId().equals(booking.getItemId())
+                            && other.getStart().isBefore(booking.getEnd())
+                            && other.getEnd().isAfter(booking.getStart()))
+                    .findFirst();
+            if (overlapping.isPresent()) {
+                errors.put(id, "Период бронирования " + id + " пересекается с бронированием "
+                        + overlapping.get().getId() + " из того же решения");
+                continue;
+            }
+            try {
+                bookingOverlapGuard.reserve(id, booking.getItemId(), booking.getStart(), booking.getEnd());
+                reserved.add(booking);
+            } catch (ConflictException e) {
+                errors.put(id, e.getMessage());
+            }
+        }
+        return reserved.stream()
+                .map(BookingIntervalView::getId)
+                .toList();
+    }
+
+    private Optional<BookingDto> findDto(Long bookingId) {
+        return bookingRepository.findDtosByIds(List.of(bookingId)).stream().findFirst();
+    }
+
+    /**
+     * Медленный путь: условное обновление не изменило строку. Бронирование читается только здесь, чтобы вернуть
+     * ту же ошибку, что и проверки до обновления.
+     */
+    private static RuntimeException statusNotChanged(Long userId, Long bookingId, Optional<BookingDto> booking) {
+        if (booking.isEmpty()) {
+            return new NotFoundException("Бронирование с id " + bookingId + " не найдено");
+        }
+        if (booking.get().getStatus() == BookingStatus.WAITING && !userId.equals(booking.get().getItem().getOwner())) {
+            return new ValidationException("Одобрить бронирование может только владелец вещи");
         }
+        return new IllegalStateException("Статус можно изменить только у бронирования со статусом WAITING.");
     }
 
     @Override
@@ -95,46 +220,79 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<BookingDto> getBookingByUserId(Long id, String stateString) {
         log.info("Проверяем параметр stateString");
-        BookingState state = parseState(stateString);
+        BookingStateFilter filter = BookingStateFilter.of(parseState(stateString), LocalDateTime.now());
         log.info("Проверяем существования пользователя {}", id);
         getUser(id);
-        LocalDateTime now = LocalDateTime.now();
-        List<Booking> bookings = switch (state) {
-            case ALL -> bookingRepository.findByBookerIdOrderByStartDesc(id);
-            case CURRENT -> bookingRepository.findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(id, now, now);
-            case PAST -> bookingRepository.findByBookerIdAndEndBeforeOrderByStartDesc(id, now);
-            case FUTURE -> bookingRepository.findByBookerIdAndStartAfterOrderByStartDesc(id, now);
-            case WAITING ->
-                    bookingRepository.findByBookerIdAndStatusAndStartAfterOrderByStartDesc(id, BookingStatus.WAITING, now);
-            case REJECTED -> bookingRepository.findByBookerIdAndStatusOrderByStartDesc(id, BookingStatus.REJECTED);
-        };
-        return bookings.stream()
-                .map(bookingMapper::toBookingDto)
-                .toList();
+        return bookingRepository.findBookerDtos(id, filter.getStatuses(),
+                filter.getStartAfter(), filter.getStartBefore(), filter.getEndAfter(), filter.getEndBefore());
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<BookingDto> getBookingByOwnerId(Long id, String stateString) {
         log.info("Проверяем параметр stateString");
-        BookingState state = parseState(stateString);
+        BookingStateFilter filter = BookingStateFilter.of(parseState(stateString), LocalDateTime.now());
+        log.info("Проверяем существования пользователя (ВЛАДЕЛЬЦА) {}", id);
+        getUser(id);
+        return bookingRepository.findOwnerDtos(id, filter.getStatuses(),
+                filter.getStartAfter(), filter.getStartBefore(), filter.getEndAfter(), filter.getEndBefore());
+    }
+
+    @Override
+    public BookingPageDto getBookingPageByUserId(Long id, String stateString, String cursor, int size) {
+        log.info("Проверяем параметр stateString");
+        BookingStateFilter filter = BookingStateFilter.of(parseState(stateString), LocalDateTime.now());
+        checkPageSize(size);
+        log.info("Проверяем существования пользователя {}", id);
+        getUser(id);
+        BookingCursor position = parseCursor(cursor);
+        List<Booking> bookings = bookingRepository.findBookerPage(id, filter.getStatuses(),
+                filter.getStartAfter(), filter.getStartBefore(), filter.getEndAfter(), filter.getEndBefore(),
+                position.getStart(), position.getId(), PageRequest.of(0, size + 1));
+        return toPage(bookings, size);
+    }
+
+    @Override
+    public BookingPageDto getBookingPageByOwnerId(Long id, String stateString, String cursor, int size) {
+        log.info("Проверяем параметр stateString");
+        BookingStateFilter filter = BookingStateFilter.of(parseState(stateString), LocalDateTime.now());
+        checkPageSize(size);
         log.info("Проверяем существования пользователя (ВЛАДЕЛЬЦА) {}", id);
         getUser(id);
-        LocalDateTime now = LocalDateTime.now();
-        List<Booking> bookings = switch (state) {
-            case ALL -> bookingRepository.findByItem_OwnerOrderByStartDesc(id);
-            case CURRENT -> bookingRepository.findByItem_OwnerAndStartBeforeAndEndAfterOrderByStartDesc(id, now, now);
-            case PAST -> bookingRepository.findByItem_OwnerAndEndBeforeOrderByStartDesc(id, now);
-            case FUTURE -> bookingRepository.findByItem_OwnerAndStartAfterOrderByStartDesc(id, now);
-            case WAITING ->
-                    bookingRepository.findByItem_OwnerAndStatusAndStartAfterOrderByStartDesc(id, BookingStatus.WAITING, now);
-            case REJECTED -> bookingRepository.findByItem_OwnerAndStatusOrderByStartDesc(id, BookingStatus.REJECTED);
-        };
-        return bookings.stream()
+        BookingCursor position = parseCursor(cursor);
+        List<Booking> bookings = bookingRepository.findOwnerPage(id, filter.getStatuses(),
+                filter.getStartAfter(), filter.getStartBefore(), filter.getEndAfter(), filter.getEndBefore(),
+                position.getStart(), position.getId(), PageRequest.of(0, size + 1));
+        return toPage(bookings, size);
+    }
+
+    private BookingPageDto toPage(List<Booking> bookings, int size) {
+        String nextCursor = null;
+        if (bookings.size() > size) {
+            bookings = bookings.subList(0, size);
+            Booking last = bookings.get(size - 1);
+            nextCursor = new BookingCursor(last.getStart(), last.getId()).encode();
+        }
+        return new BookingPageDto(bookings.stream()
                 .map(bookingMapper::toBookingDto)
-                .toList();
+                .toList(), nextCursor);
+    }
+
+    private static BookingCursor parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new BookingCursor(BookingStateFilter.MAX_DATE, Long.MAX_VALUE);
+        }
+        return BookingCursor.decode(cursor);
+    }
+
+    private static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Размер страницы должен быть от 1 до " + MAX_PAGE_SIZE);
+        }
     }
 
     public void checkData(BookingCreationDto dto) {
@@ -152,7 +310,7 @@ public class BookingServiceImpl implements BookingService {
     }
 
     public User getUser(Long id) {
-        return userRepository.findById(id)
+        return entityContext.find(User.class, id, userRepository::findCachedById)
                 .orElseThrow(() -> new NotFoundException("Пользователь с id " + id + " не найден"));
     }
 
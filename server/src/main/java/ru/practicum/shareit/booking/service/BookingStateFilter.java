@@ -0,0 +1,46 @@
+package ru.practicum.shareit.booking.service;
+
+import lombok.Getter;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Условия выборки бронирований для {@link BookingState}, выраженные через границы дат и набор статусов.
+ * Позволяет обслуживать все состояния одним запросом с keyset-пагинацией вместо отдельного метода на каждое.
+ */
+@Getter
+public class BookingStateFilter {
+    public static final LocalDateTime MIN_DATE = LocalDateTime.of(1, 1, 1, 0, 0);
+    public static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final Set<BookingStatus> statuses;
+    private final LocalDateTime startAfter;
+    private final LocalDateTime startBefore;
+    private final LocalDateTime endAfter;
+    private final LocalDateTime endBefore;
+
+    private BookingStateFilter(Set<BookingStatus> statuses, LocalDateTime startAfter, LocalDateTime startBefore,
+                               LocalDateTime endAfter, LocalDateTime endBefore) {
+        this.statuses = statuses;
+        this.startAfter = startAfter;
+        this.startBefore = startBefore;
+        this.endAfter = endAfter;
+        this.endBefore = endBefore;
+    }
+
+    public static BookingStateFilter of(BookingState state, LocalDateTime now) {
+        Set<BookingStatus> all = EnumSet.allOf(BookingStatus.class);
+        return switch (state) {
+            case ALL -> new BookingStateFilter(all, MIN_DATE, MAX_DATE, MIN_DATE, MAX_DATE);
+            case CURRENT -> new BookingStateFilter(all, MIN_DATE, now, now, MAX_DATE);
+            case PAST -> new BookingStateFilter(all, MIN_DATE, MAX_DATE, MIN_DATE, now);
+            case FUTURE -> new BookingStateFilter(all, now, MAX_DATE, MIN_DATE, MAX_DATE);
+            case WAITING -> new BookingStateFilter(EnumSet.of(BookingStatus.WAITING), now, MAX_DATE, MIN_DATE, MAX_DATE);
+            case REJECTED -> new BookingStateFilter(EnumSet.of(BookingStatus.REJECTED), MIN_DATE, MAX_DATE, MIN_DATE, MAX_DATE);
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package ru.practicum.shareit.booking.status;
+
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.BookingStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Решение владельца по бронированиям одним условным {@code UPDATE}: статус меняется, только если бронирование
+ * ждет решения ({@code WAITING}) и вещь принадлежит владельцу. Проверка и изменение выполняются в базе атомарно,
+ * поэтому из одновременных решений по одному бронированию проходит одно.
+ * Реализация выбирается свойством {@code shareit.booking.status-update}.
+ */
+public interface BookingStatusUpdater {
+
+    /**
+     * @return бронирования, статус которых изменен. Остальных бронирований нет, они уже рассмотрены
+     * или вещь принадлежит другому пользователю
+     */
+    List<BookingDto> updateWaiting(Collection<Long> bookingIds, Long ownerId, BookingStatus status);
+
+    /**
+     * @return бронирование с новым статусом или пустой результат, если строка не изменена
+     */
+    default Optional<BookingDto> updateWaiting(Long bookingId, Long ownerId, BookingStatus status) {
+        return updateWaiting(List.of(bookingId), ownerId, status).stream().findFirst();
+    }
+}
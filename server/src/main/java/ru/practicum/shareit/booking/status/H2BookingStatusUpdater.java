@@ -0,0 +1,31 @@
+package ru.practicum.shareit.booking.status;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.service.BookingRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * H2: обновленные строки читаются из {@code FINAL TABLE (UPDATE ...)} вместе с вещью и бронирующим,
+ * один оператор.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.booking.status-update", havingValue = "h2")
+public class H2BookingStatusUpdater implements BookingStatusUpdater {
+    private final BookingRepository bookingRepository;
+    private final BookingMapper bookingMapper;
+
+    @Override
+    public List<BookingDto> updateWaiting(Collection<Long> bookingIds, Long ownerId, BookingStatus status) {
+        return bookingRepository.updateWaitingStatusH2(bookingIds, ownerId, status.name()).stream()
+                .map(bookingMapper::viewToBookingDto)
+                .toList();
+    }
+}
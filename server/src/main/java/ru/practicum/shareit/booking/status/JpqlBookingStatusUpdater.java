@@ -0,0 +1,35 @@
+package ru.practicum.shareit.booking.status;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingIntervalView;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.service.BookingRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Переносимая реализация: ожидающие решения бронирования блокируются и выбираются, затем условный {@code UPDATE}
+ * на JPQL и чтение измененных бронирований проекцией, три оператора.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.booking.status-update", havingValue = "update", matchIfMissing = true)
+public class JpqlBookingStatusUpdater implements BookingStatusUpdater {
+    private final BookingRepository bookingRepository;
+
+    @Override
+    public List<BookingDto> updateWaiting(Collection<Long> bookingIds, Long ownerId, BookingStatus status) {
+        List<Long> waiting = bookingRepository.findWaitingForUpdate(bookingIds, ownerId).stream()
+                .map(BookingIntervalView::getId)
+                .toList();
+        if (waiting.isEmpty()) {
+            return List.of();
+        }
+        bookingRepository.updateWaitingStatus(waiting, ownerId, status);
+        return bookingRepository.findDtosByIds(waiting);
+    }
+}
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Кэши Caffeine для чтения пользователей и вещей по id. Размер и время жизни записей задаются
+ * {@code spring.cache.caffeine.spec}. Менеджер обернут в {@link TransactionAwareCacheManagerProxy}:
+ * сброс и заполнение записей внутри транзакции выполняются только после ее фиксации,
+ * поэтому параллельный запрос не может вернуть в кэш состояние до изменения.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+    public static final String USERS = "users";
+    public static final String ITEMS = "items";
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(USERS, ITEMS);
+        String spec = cacheProperties.getCaffeine().getSpec();
+        if (StringUtils.hasText(spec)) {
+            cacheManager.setCacheSpecification(spec);
+        }
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
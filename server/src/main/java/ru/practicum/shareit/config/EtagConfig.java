@@ -0,0 +1,23 @@
+package ru.practicum.shareit.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * ETag для ответов GET по пользователям, вещам и запросам. Шлюз кэширует эти ответы и перепроверяет их
+ * заголовком {@code If-None-Match}: если тело не изменилось, сервер отвечает 304 без тела.
+ * ETag считается по готовому телу ответа, поэтому фильтр не подключен к спискам бронирований.
+ */
+@Configuration
+public class EtagConfig {
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> etagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/users/*", "/items/*", "/requests/*");
+        return registration;
+    }
+}
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.context;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Карта идентичности на время HTTP-запроса: сущность, однажды загруженная по типу и id,
+ * повторно не запрашивается ни одним сервисом в рамках того же запроса.
+ * Контекст открывается {@link EntityContextFilter}; вне запроса (тесты сервисов, фоновые задачи)
+ * все обращения идут напрямую к загрузчику.
+ * <p>
+ * Хранит только найденные сущности; после изменения сущности вызывающий код обязан вызвать {@link #evict}.
+ */
+@Component
+public class EntityContext {
+    private static final ThreadLocal<Map<Key, Object>> ENTITIES = new ThreadLocal<>();
+
+    public void open() {
+        ENTITIES.set(new HashMap<>());
+    }
+
+    public void close() {
+        ENTITIES.remove();
+    }
+
+    public <T> Optional<T> find(Class<T> type, Long id, Function<Long, Optional<T>> loader) {
+        Map<Key, Object> entities = ENTITIES.get();
+        if (entities == null || id == null) {
+            return loader.apply(id);
+        }
+        Key key = new Key(type, id);
+        Object known = entities.get(key);
+        if (known != null) {
+            return Optional.of(type.cast(known));
+        }
+        Optional<T> loaded = loader.apply(id);
+        loaded.ifPresent(entity -> entities.put(key, entity));
+        return loaded;
+    }
+
+    public void evict(Class<?> type, Long id) {
+        Map<Key, Object> entities = ENTITIES.get();
+        if (entities != null) {
+            entities.remove(new Key(type, id));
+        }
+    }
+
+    private record Key(Class<?> type, Long id) {
+    }
+}
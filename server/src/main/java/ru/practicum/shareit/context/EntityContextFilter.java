@@ -0,0 +1,28 @@
+package ru.practicum.shareit.context;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+@RequiredArgsConstructor
+public class EntityContextFilter extends OncePerRequestFilter {
+    private final EntityContext entityContext;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        entityContext.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            entityContext.close();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.diagnostics;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Допустимое число SQL-операторов на запрос для обработчиков контроллеров.
+ * Ключ — {@code ИмяКонтроллера.имяМетода}, например
+ * {@code shareit.diagnostics.query-budget.endpoints[ItemController.getItem]=8}.
+ */
+@Data
+@ConfigurationProperties(prefix = "shareit.diagnostics.query-budget")
+public class QueryBudgetProperties {
+    /**
+     * Бросать {@link QueryBudgetExceededException} при превышении бюджета вместо предупреждения в логе.
+     */
+    private boolean strict = false;
+
+    /**
+     * Бюджет для обработчиков, не указанных в {@link #endpoints}; {@code null} — без ограничения.
+     */
+    private Integer defaultBudget;
+
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    public Integer budgetFor(String handler) {
+        return endpoints.getOrDefault(handler, defaultBudget);
+    }
+}
@@ -0,0 +1,40 @@
+package ru.practicum.shareit.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Добавляет в ответ заголовок {@value #HEADER} с числом SQL-операторов, выполненных за запрос.
+ * Включается свойством {@code shareit.diagnostics.query-count-header} и не предназначен для production:
+ * тело ответа буферизуется, чтобы заголовок можно было выставить после обработки.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.diagnostics.query-count-header", havingValue = "true")
+public class QueryCountFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-Query-Count";
+
+    private final QueryCounter queryCounter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        queryCounter.reset();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            wrapper.setHeader(HEADER, String.valueOf(queryCounter.count()));
+            wrapper.copyBodyToResponse();
+        }
+    }
+}
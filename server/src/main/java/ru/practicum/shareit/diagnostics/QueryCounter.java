@@ -0,0 +1,27 @@
+package ru.practicum.shareit.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Считает SQL-операторы, подготовленные Hibernate в текущем потоке.
+ * Регистрируется как {@code hibernate.session_factory.statement_inspector} и не изменяет SQL.
+ */
+@Component
+public class QueryCounter implements StatementInspector {
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public int count() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,82 @@
+package ru.practicum.shareit.diagnostics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Считает SQL-операторы, выполненные обработчиком контроллера, и публикует их распределение
+ * в метрике {@value #METRIC} с тегом {@code handler}. Превышение бюджета из {@link QueryBudgetProperties}
+ * увеличивает счетчик {@value #EXCEEDED_METRIC}; в строгом режиме запрос завершается исключением,
+ * что позволяет ловить N+1 в тестах.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryMetricsInterceptor implements HandlerInterceptor {
+    public static final String METRIC = "shareit.sql.statements";
+    public static final String EXCEEDED_METRIC = "shareit.sql.budget.exceeded";
+    private static final String START_ATTRIBUTE = QueryMetricsInterceptor.class.getName() + ".start";
+
+    private final QueryCounter queryCounter;
+    private final QueryBudgetProperties budgetProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        request.setAttribute(START_ATTRIBUTE, queryCounter.count());
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (!budgetProperties.isStrict() || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        String name = handlerName(handlerMethod);
+        Integer budget = budgetProperties.budgetFor(name);
+        int statements = statements(request);
+        if (budget != null && statements > budget) {
+            throw new QueryBudgetExceededException("Обработчик " + name + " выполнил " + statements
+                    + " SQL-операторов при бюджете " + budget);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        String name = handlerName(handlerMethod);
+        int statements = statements(request);
+        DistributionSummary.builder(METRIC)
+                .description("Число SQL-операторов за запрос")
+                .tag("handler", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statements);
+        Integer budget = budgetProperties.budgetFor(name);
+        if (budget != null && statements > budget) {
+            meterRegistry.counter(EXCEEDED_METRIC, "handler", name).increment();
+            log.warn("Обработчик {} выполнил {} SQL-операторов при бюджете {}", name, statements, budget);
+        }
+    }
+
+    private int statements(HttpServletRequest request) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        return queryCounter.count() - (start instanceof Integer value ? value : 0);
+    }
+
+    private static String handlerName(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.dto;
+
+/**
+ * Вещь, созданная в ответ на запрос, вместе с id этого запроса.
+ */
+public interface ItemForRequestView {
+    Long getRequestId();
+
+    Long getId();
+
+    String getName();
+
+    Long getOwner();
+}
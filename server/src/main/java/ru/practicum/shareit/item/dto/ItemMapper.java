@@ -17,6 +17,7 @@ public interface ItemMapper {
     @Mapping(target = "request", source = "request")
     @Mapping(target = "description", source = "item.description")
     @Mapping(target = "id", source = "id")
+    @Mapping(target = "version", ignore = true)
     Item dtoToItem(ItemCreateDto item, Long id, Long owner, ItemRequest request);
 
     @Mapping(target = "id", source = "item.id")
@@ -27,6 +28,10 @@ public interface ItemMapper {
 
     ItemDtoForRequest toItemDtoForRequest(Item item);
 
+    ItemDtoForRequest viewToItemDtoForRequest(ItemForRequestView item);
+
+    ItemDto viewToItemDto(ItemView item);
+
     @Mapping(target = "requestId", source = "item.request.id")
     ItemDto toItemDto(Item item);
 }
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.item.dto;
+
+/**
+ * Поля вещи, читаемые нативным запросом без загрузки сущности.
+ */
+public interface ItemView {
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    Boolean getAvailable();
+
+    Long getOwner();
+
+    Long getRequestId();
+}
@@ -14,7 +14,8 @@ import ru.practicum.shareit.request.model.ItemRequest;
 @Table(name = "items")
 public class Item {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = 50)
     private Long id;
     @Column(name = "name", nullable = false)
     private String name;
@@ -28,4 +29,8 @@ public class Item {
     @ManyToOne
     @JoinColumn(name = "request_id", referencedColumnName = "id")
     private ItemRequest request;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
@@ -0,0 +1,35 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.service.ItemRepository;
+
+import java.util.List;
+
+/**
+ * Поиск через {@code LIKE} в базе данных. Используется по умолчанию. Смещение передается в запрос как есть
+ * ({@code LIMIT/OFFSET}), а не округляется до границы страницы.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "database", matchIfMissing = true)
+public class DatabaseItemSearchEngine implements ItemSearchEngine {
+    private final ItemRepository itemRepository;
+    private final ItemMapper itemMapper;
+
+    @Override
+    public List<ItemDto> search(String text, int offset, int limit) {
+        return itemRepository.searchItem(escapeLike(text), limit, offset).stream()
+                .map(itemMapper::viewToItemDto)
+                .toList();
+    }
+
+    static String escapeLike(String text) {
+        return text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,269 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemRepository;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * N-граммный инвертированный индекс в памяти процесса. Строится при старте из таблицы {@code items}
+ * пачками по id и обновляется из {@code ItemServiceImpl} после фиксации транзакции.
+ * <p>
+ * Каждой вещи присваивается плотный номер документа; списки вхождений n-грамм хранятся
+ * в отсортированных массивах {@code int}, поля документов — в параллельных массивах.
+ * Кандидаты находятся пересечением списков по n-граммам запроса и проверяются на точное вхождение подстроки.
+ * Запрос короче n-граммы ({@code shareit.search.index.gram-size}) не содержит ни одной n-граммы, поэтому
+ * такой запрос проверяется перебором всех доступных вещей — время линейно по размеру индекса.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "index")
+public class InMemoryItemSearchEngine implements ItemSearchEngine, SmartInitializingSingleton {
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final int RANK_SHIFT = 61;
+    private static final long ID_MASK = (1L << RANK_SHIFT) - 1;
+
+    private final ItemRepository itemRepository;
+    private final int gramSize;
+
+    private final LongIntHashMap docById = new LongIntHashMap(LOAD_BATCH_SIZE);
+    private final Map<String, IntPostingList> postings = new HashMap<>();
+    private final BitSet available = new BitSet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids = new long[LOAD_BATCH_SIZE];
+    private String[] names = new String[LOAD_BATCH_SIZE];
+    private String[] descriptions = new String[LOAD_BATCH_SIZE];
+    private int size;
+
+    public InMemoryItemSearchEngine(ItemRepository itemRepository,
+                                    @Value("${shareit.search.index.gram-size:3}") int gramSize) {
+        if (gramSize < 1) {
+            throw new IllegalStateException("Размер n-граммы должен быть положительным: " + gramSize);
+        }
+        this.itemRepository = itemRepository;
+        this.gramSize = gramSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long afterId = 0;
+        List<ItemIndexView> batch;
+        do {
+            batch = itemRepository.findIndexBatch(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+            lock.writeLock().lock();
+            try {
+                for (ItemIndexView view : batch) {
+                    put(view.getId(), normalize(view.getName()), normalize(view.getDescription()),
+                            Boolean.TRUE.equals(view.getAvailable()));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        log.info("Поисковый индекс построен: {} вещей, {} n-грамм длины {}", size, postings.size(), gramSize);
+    }
+
+    @Override
+    public void index(Item item) {
+        long id = item.getId();
+        String name = normalize(item.getName());
+        String description = normalize(item.getDescription());
+        boolean isAvailable = Boolean.TRUE.equals(item.getAvailable());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update(id, name, description, isAvailable);
+                }
+            });
+        } else {
+            update(id, name, description, isAvailable);
+        }
+    }
+
+    @Override
+    public List<ItemDto> search(String text, int offset, int limit) {
+        List<Long> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            long[] keys = rankedMatches(text);
+            Arrays.sort(keys);
+            for (int i = offset; i < keys.length && found.size() < limit; i++) {
+                found.add(keys[i] & ID_MASK);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Map<Long, ItemDto> items = itemRepository.findDtosByIdIn(found).stream()
+                .collect(Collectors.toMap(ItemDto::getId, Function.identity()));
+        return found.stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Возвращает найденные документы в виде ключей сортировки: ранг в старших битах, id вещи в младших.
+     * Текст короче n-граммы проверяется перебором всех доступных документов.
+     */
+    private long[] rankedMatches(String text) {
+        long[] keys = new long[16];
+        int count = 0;
+        if (text.length() < gramSize) {
+            for (int doc = available.nextSetBit(0); doc >= 0; doc = available.nextSetBit(doc + 1)) {
+                int rank = rank(doc, text);
+                if (rank >= 0) {
+                    keys = append(keys, count++, rank, doc);
+                }
+            }
+            return Arrays.copyOf(keys, count);
+        }
+        IntPostingList[] lists = postingsFor(text);
+        if (lists == null) {
+            return new long[0];
+        }
+        IntPostingList smallest = lists[0];
+        for (int i = 0; i < smallest.size(); i++) {
+            int doc = smallest.get(i);
+            if (!available.get(doc) || !containedInAll(lists, doc)) {
+                continue;
+            }
+            int rank = rank(doc, text);
+            if (rank >= 0) {
+                keys = append(keys, count++, rank, doc);
+            }
+        }
+        return Arrays.copyOf(keys, count);
+    }
+
+    private IntPostingList[] postingsFor(String text) {
+        Set<String> grams = grams(text);
+        IntPostingList[] lists = new IntPostingList[grams.size()];
+        int i = 0;
+        for (String gram : grams) {
+            IntPostingList posting = postings.get(gram);
+            if (posting == null) {
+                return null;
+            }
+            lists[i++] = posting;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(IntPostingList::size));
+        return lists;
+    }
+
+    private static boolean containedInAll(IntPostingList[] lists, int doc) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(doc)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long[] append(long[] keys, int position, int rank, int doc) {
+        if (position == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+        }
+        keys[position] = ((long) rank << RANK_SHIFT) | ids[doc];
+        return keys;
+    }
+
+    /**
+     * @return 0 — точное совпадение названия, 1 — название начинается с текста, 2 — текст в названии,
+     * 3 — текст только в описании, -1 — совпадения нет
+     */
+    private int rank(int doc, String text) {
+        String name = names[doc];
+        if (name.equals(text)) {
+            return 0;
+        }
+        if (name.startsWith(text)) {
+            return 1;
+        }
+        if (name.contains(text)) {
+            return 2;
+        }
+        return descriptions[doc].contains(text) ? 3 : -1;
+    }
+
+    private void update(long id, String name, String description, boolean isAvailable) {
+        lock.writeLock().lock();
+        try {
+            int doc = docById.get(id);
+            if (doc < 0) {
+                put(id, name, description, isAvailable);
+                return;
+            }
+            Set<String> previous = grams(names[doc], descriptions[doc]);
+            Set<String> current = grams(name, description);
+            for (String gram : previous) {
+                if (!current.contains(gram)) {
+                    IntPostingList posting = postings.get(gram);
+                    posting.remove(doc);
+                    if (posting.size() == 0) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+            for (String gram : current) {
+                if (!previous.contains(gram)) {
+                    postings.computeIfAbsent(gram, key -> new IntPostingList()).add(doc);
+                }
+            }
+            names[doc] = name;
+            descriptions[doc] = description;
+            available.set(doc, isAvailable);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(long id, String name, String description, boolean isAvailable) {
+        if (size == ids.length) {
+            int capacity = size + (size >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            descriptions = Arrays.copyOf(descriptions, capacity);
+        }
+        int doc = size++;
+        ids[doc] = id;
+        names[doc] = name;
+        descriptions[doc] = description;
+        available.set(doc, isAvailable);
+        docById.put(id, doc);
+        for (String gram : grams(name, description)) {
+            postings.computeIfAbsent(gram, key -> new IntPostingList()).add(doc);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase();
+    }
+
+    private Set<String> grams(String... values) {
+        Set<String> result = new HashSet<>();
+        for (String value : values) {
+            for (int i = 0; i + gramSize <= value.length(); i++) {
+                result.add(value.substring(i, i + gramSize));
+            }
+        }
+        return result;
+    }
+}
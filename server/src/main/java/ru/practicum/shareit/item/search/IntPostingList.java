@@ -0,0 +1,54 @@
+package ru.practicum.shareit.item.search;
+
+import java.util.Arrays;
+
+/**
+ * Отсортированный по возрастанию список номеров документов на примитивном массиве.
+ */
+class IntPostingList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] docs = new int[INITIAL_CAPACITY];
+    private int size;
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return docs[index];
+    }
+
+    void add(int doc) {
+        if (size > 0 && docs[size - 1] >= doc) {
+            int position = Arrays.binarySearch(docs, 0, size, doc);
+            if (position >= 0) {
+                return;
+            }
+            insert(-position - 1, doc);
+            return;
+        }
+        insert(size, doc);
+    }
+
+    void remove(int doc) {
+        int position = Arrays.binarySearch(docs, 0, size, doc);
+        if (position >= 0) {
+            System.arraycopy(docs, position + 1, docs, position, size - position - 1);
+            size--;
+        }
+    }
+
+    boolean contains(int doc) {
+        return Arrays.binarySearch(docs, 0, size, doc) >= 0;
+    }
+
+    private void insert(int position, int doc) {
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size + (size >> 1) + 1);
+        }
+        System.arraycopy(docs, position, docs, position + 1, size - position);
+        docs[position] = doc;
+        size++;
+    }
+}
@@ -0,0 +1,14 @@
+package ru.practicum.shareit.item.search;
+
+/**
+ * Поля вещи, необходимые для построения индекса поиска.
+ */
+public interface ItemIndexView {
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    Boolean getAvailable();
+}
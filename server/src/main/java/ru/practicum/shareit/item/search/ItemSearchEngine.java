@@ -0,0 +1,28 @@
+package ru.practicum.shareit.item.search;
+
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+
+import java.util.List;
+
+/**
+ * Движок поиска доступных вещей по подстроке в названии или описании.
+ * Результаты упорядочены по релевантности: сначала совпадения в названии, затем в описании.
+ * Реализация выбирается свойством {@code shareit.search.engine}.
+ * Результаты читаются проекциями сразу в {@link ItemDto}, без загрузки сущностей.
+ */
+public interface ItemSearchEngine {
+
+    /**
+     * @param text   нормализованный (без пробелов по краям, в нижнем регистре) непустой запрос
+     * @param offset сколько результатов пропустить
+     * @param limit  максимальное число результатов
+     */
+    List<ItemDto> search(String text, int offset, int limit);
+
+    /**
+     * Сообщает движку о созданной или измененной вещи.
+     */
+    default void index(Item item) {
+    }
+}
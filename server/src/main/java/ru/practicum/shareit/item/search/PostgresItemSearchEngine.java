@@ -0,0 +1,30 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.service.ItemRepository;
+
+import java.util.List;
+
+/**
+ * Поиск средствами PostgreSQL: полнотекстовое совпадение ({@code tsvector}) и подстрока через
+ * триграммные GIN-индексы ({@code pg_trgm}), ранжирование по {@code ts_rank} и похожести названия.
+ * Индексы создаются миграцией {@code db/vendor/postgresql/V2_1__search_indexes_and_overlap_constraint.sql}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "postgres")
+public class PostgresItemSearchEngine implements ItemSearchEngine {
+    private final ItemRepository itemRepository;
+    private final ItemMapper itemMapper;
+
+    @Override
+    public List<ItemDto> search(String text, int offset, int limit) {
+        return itemRepository.searchItemFullText(text, DatabaseItemSearchEngine.escapeLike(text), limit, offset).stream()
+                .map(itemMapper::viewToItemDto)
+                .toList();
+    }
+}
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.item.service;
+
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+
+import java.time.LocalDateTime;
+
+public interface ItemAvailabilityService {
+
+    ItemAvailabilityDto getAvailability(Long itemId, LocalDateTime from, LocalDateTime to, boolean includeWaiting);
+
+    void invalidate(Long itemId);
+
+    /**
+     * Сбрасывает записи вещей, которые затронет удаление пользователя. Вызывается до удаления:
+     * после него каскад в базе уже удалит вещи и бронирования, по которым их можно найти.
+     */
+    void invalidateForUser(Long userId);
+}
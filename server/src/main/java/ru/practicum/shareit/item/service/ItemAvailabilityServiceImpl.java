@@ -0,0 +1,162 @@
+package ru.practicum.shareit.item.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dto.BookingCreationDto;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.service.BookingRepository;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.AvailabilityWindowDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Свободные окна вещи. Для каждой вещи кэшируется дерево занятых интервалов (начало → конец),
+ * в котором пересекающиеся бронирования уже слиты, поэтому ответ строится за O(log n + k),
+ * где k — число занятых интервалов в запрошенном периоде. Запись сбрасывается после фиксации
+ * транзакции, создавшей или изменившей бронирование вещи, а также удалившей пользователя
+ * (его вещи и бронирования удаляются каскадом). Кэш — ограниченный по размеру кэш Caffeine без общей блокировки.
+ * <p>
+ * Сброс увеличивает поколение вещи (счетчик в одной из {@value #GENERATION_STRIPES} полос по id). Загруженные
+ * интервалы попадают в кэш, только если поколение не изменилось с начала загрузки: иначе параллельный сброс
+ * мог пройти между чтением из базы и записью в кэш, и в кэше остались бы интервалы до изменения. Проверка
+ * и запись выполняются атомарно для ключа ({@code compute}), а сброс удаляет ключ после увеличения поколения,
+ * поэтому запись, проверившая старое поколение, будет удалена этим сбросом.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ItemAvailabilityServiceImpl implements ItemAvailabilityService {
+    private static final Set<BookingStatus> APPROVED = EnumSet.of(BookingStatus.APPROVED);
+    private static final Set<BookingStatus> APPROVED_OR_WAITING = EnumSet.of(BookingStatus.APPROVED, BookingStatus.WAITING);
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final Cache<CacheKey, NavigableMap<LocalDateTime, LocalDateTime>> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public ItemAvailabilityServiceImpl(ItemRepository itemRepository, BookingRepository bookingRepository,
+                                       @Value("${shareit.availability.cache-size:10000}") int cacheSize) {
+        this.itemRepository = itemRepository;
+        this.bookingRepository = bookingRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    @Override
+    public ItemAvailabilityDto getAvailability(Long itemId, LocalDateTime from, LocalDateTime to, boolean includeWaiting) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Начало периода должно быть раньше его окончания");
+        }
+        CacheKey key = new CacheKey(itemId, includeWaiting);
+        NavigableMap<LocalDateTime, LocalDateTime> busy = cache.getIfPresent(key);
+        if (busy == null) {
+            log.info("Загружаем занятые интервалы вещи {}", itemId);
+            long generation = generations.get(stripe(itemId));
+            if (!itemRepository.existsById(itemId)) {
+                throw new NotFoundException("Вещь с id " + itemId + " не найдена");
+            }
+            NavigableMap<LocalDateTime, LocalDateTime> loaded =
+                    load(itemId, includeWaiting ? APPROVED_OR_WAITING : APPROVED);
+            cache.asMap().compute(key, (k, cached) ->
+                    generations.get(stripe(itemId)) == generation ? loaded : cached);
+            busy = loaded;
+        }
+        return new ItemAvailabilityDto(itemId, from, to, freeWindows(busy, from, to));
+    }
+
+    @Override
+    public void invalidate(Long itemId) {
+        invalidate(List.of(itemId));
+    }
+
+    @Override
+    public void invalidateForUser(Long userId) {
+        invalidate(itemRepository.findIdsOwnedOrBookedBy(userId));
+    }
+
+    private void invalidate(Collection<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    itemIds.forEach(ItemAvailabilityServiceImpl.this::evict);
+                }
+            });
+        } else {
+            itemIds.forEach(this::evict);
+        }
+    }
+
+    private void evict(Long itemId) {
+        generations.incrementAndGet(stripe(itemId));
+        cache.invalidate(new CacheKey(itemId, false));
+        cache.invalidate(new CacheKey(itemId, true));
+    }
+
+    private static int stripe(Long itemId) {
+        return Long.hashCode(itemId) & (GENERATION_STRIPES - 1);
+    }
+
+    private NavigableMap<LocalDateTime, LocalDateTime> load(Long itemId, Set<BookingStatus> statuses) {
+        NavigableMap<LocalDateTime, LocalDateTime> merged = new TreeMap<>();
+        LocalDateTime start = null;
+        LocalDateTime end = null;
+        for (BookingCreationDto interval : bookingRepository.findBusyIntervals(itemId, statuses)) {
+            if (end != null && !interval.getStart().isAfter(end)) {
+                if (interval.getEnd().isAfter(end)) {
+                    end = interval.getEnd();
+                }
+                continue;
+            }
+            if (end != null) {
+                merged.put(start, end);
+            }
+            start = interval.getStart();
+            end = interval.getEnd();
+        }
+        if (end != null) {
+            merged.put(start, end);
+        }
+        return Collections.unmodifiableNavigableMap(merged);
+    }
+
+    private static List<AvailabilityWindowDto> freeWindows(NavigableMap<LocalDateTime, LocalDateTime> busy,
+                                                           LocalDateTime from, LocalDateTime to) {
+        List<AvailabilityWindowDto> windows = new ArrayList<>();
+        LocalDateTime cursor = from;
+        Map.Entry<LocalDateTime, LocalDateTime> first = busy.floorEntry(from);
+        if (first != null && first.getValue().isAfter(cursor)) {
+            cursor = first.getValue();
+        }
+        for (Map.Entry<LocalDateTime, LocalDateTime> interval : busy.subMap(from, false, to, false).entrySet()) {
+            if (interval.getKey().isAfter(cursor)) {
+                windows.add(new AvailabilityWindowDto(cursor, interval.getKey()));
+            }
+            if (interval.getValue().isAfter(cursor)) {
+                cursor = interval.getValue();
+            }
+        }
+        if (cursor.isBefore(to)) {
+            windows.add(new AvailabilityWindowDto(cursor, to));
+        }
+        return windows;
+    }
+
+    private record CacheKey(long itemId, boolean includeWaiting) {
+    }
+}
@@ -3,9 +3,11 @@ package ru.practicum.shareit.item.service;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.dto.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static ru.practicum.shareit.utils.Constants.USER_ID_HEADER;
@@ -16,6 +18,7 @@ import static ru.practicum.shareit.utils.Constants.USER_ID_HEADER;
 @RequestMapping("/items")
 public class ItemController {
     private final ItemService service;
+    private final ItemAvailabilityService availabilityService;
 
     @PostMapping
     public ItemDto create(@RequestHeader(USER_ID_HEADER) Long owner,
@@ -24,6 +27,13 @@ public class ItemController {
         return service.create(itemCreateDto, owner);
     }
 
+    @PostMapping("/bulk")
+    public List<ItemImportResultDto> createAll(@RequestHeader(USER_ID_HEADER) Long owner,
+                                               @RequestBody List<ItemCreateDto> items) {
+        log.info("Запрос на импорт {} вещей от пользователя {}", items.size(), owner);
+        return service.createAll(items, owner);
+    }
+
     @PatchMapping("/{id}")
     public ItemDto update(@RequestHeader(USER_ID_HEADER) Long owner,
                           @RequestBody ItemCreateDto itemCreateDto, @PathVariable("id") Long id) {
@@ -43,10 +53,27 @@ public class ItemController {
         return service.getItemsForOwner(owner);
     }
 
+    @GetMapping("/full")
+    public List<ItemFullDto> getFullItemsForOwner(@RequestHeader(USER_ID_HEADER) Long owner) {
+        log.info("Запрос на получение вещей пользователя id {} с бронированиями и комментариями", owner);
+        return service.getFullItemsForOwner(owner);
+    }
+
     @GetMapping("/search")
-    public List<ItemDto> searchItems(@RequestParam String text) {
-        log.info("Поиск вещей по запросу: {}", text);
-        return service.itemSearch(text);
+    public List<ItemDto> searchItems(@RequestParam String text,
+                                     @RequestParam(defaultValue = "0") Integer offset,
+                                     @RequestParam(defaultValue = "20") Integer limit) {
+        log.info("Поиск вещей по запросу: {}, offset {}, limit {}", text, offset, limit);
+        return service.itemSearch(text, offset, limit);
+    }
+
+    @GetMapping("/{id}/availability")
+    public ItemAvailabilityDto getAvailability(@PathVariable("id") Long id,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                               @RequestParam(defaultValue = "false") boolean includeWaiting) {
+        log.info("Запрос свободных окон вещи {} с {} по {}, с учетом ожидающих: {}", id, from, to, includeWaiting);
+        return availabilityService.getAvailability(id, from, to, includeWaiting);
     }
 
     @PostMapping("/{itemId}/comment")
@@ -1,20 +1,89 @@
 package ru.practicum.shareit.item.service;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.config.CacheConfig;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemForRequestView;
+import ru.practicum.shareit.item.dto.ItemView;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemIndexView;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
-    List<Item> findByOwner(Long owner);
+    @Query("SELECT new ru.practicum.shareit.item.dto.ItemDto(i.id, i.name, i.description, i.available, " +
+            "i.owner, i.request.id) FROM Item i WHERE i.owner = :owner ORDER BY i.id")
+    List<ItemDto> findDtosByOwner(@Param("owner") Long owner);
 
-    @Query("SELECT i FROM Item i WHERE " +
-            "(LOWER(i.name) LIKE LOWER(CONCAT('%', :text, '%')) OR " +
-            "LOWER(i.description) LIKE LOWER(CONCAT('%', :text, '%'))) AND " +
-            "i.available = true")
-    List<Item> searchItem(@Param("text") String text);
-}
\ No newline at end of file
+    @Query("SELECT new ru.practicum.shareit.item.dto.ItemDto(i.id, i.name, i.description, i.available, " +
+            "i.owner, i.request.id) FROM Item i WHERE i.id IN :ids")
+    List<ItemDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT i.request.id AS requestId, i.id AS id, i.name AS name, i.owner AS owner " +
+            "FROM Item i WHERE i.request.id IN :requestIds ORDER BY i.id")
+    List<ItemForRequestView> findForRequests(@Param("requestIds") Collection<Long> requestIds);
+
+    /**
+     * Чтение через кэш. Возвращаемый объект общий для всех запросов, поэтому его нельзя изменять:
+     * для изменения вещь загружается через {@link #findById}.
+     */
+    @Cacheable(cacheNames = CacheConfig.ITEMS, key = "#p0", unless = "#result == null")
+    @Query("SELECT i FROM Item i LEFT JOIN FETCH i.request WHERE i.id = :id")
+    Optional<Item> findCachedById(@Param("id") Long id);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.ITEMS, key = "#result.id")
+    <S extends Item> S save(S entity);
+
+    //Row lock without loading the entity (and its eager request)
+    @Query(value = "SELECT id FROM items WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
+    @Query("SELECT i FROM Item i LEFT JOIN FETCH i.request WHERE i.owner = :owner ORDER BY i.id")
+    List<Item> findByOwnerWithRequest(@Param("owner") Long owner);
+
+    /**
+     * Вещи, которые пропадут или изменят занятость при удалении пользователя: его собственные
+     * и забронированные им (бронирования и вещи удаляются каскадом в базе).
+     */
+    @Query("SELECT i.id FROM Item i WHERE i.owner = :userId " +
+            "OR i.id IN (SELECT b.item.id FROM Booking b WHERE b.booker.id = :userId)")
+    List<Long> findIdsOwnedOrBookedBy(@Param("userId") Long userId);
+
+    @Query(value = "SELECT i.id AS id, i.name AS name, i.description AS description, " +
+            "i.is_available AS available, i.user_id AS owner, i.request_id AS \"requestId\" FROM items AS i " +
+            "WHERE i.is_available = TRUE " +
+            "AND (LOWER(i.name) LIKE '%' || :text || '%' ESCAPE '\\' " +
+            "OR LOWER(i.description) LIKE '%' || :text || '%' ESCAPE '\\') " +
+            "ORDER BY CASE WHEN LOWER(i.name) = :text THEN 0 " +
+            "WHEN LOWER(i.name) LIKE :text || '%' ESCAPE '\\' THEN 1 " +
+            "WHEN LOWER(i.name) LIKE '%' || :text || '%' ESCAPE '\\' THEN 2 " +
+            "ELSE 3 END, i.id " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<ItemView> searchItem(@Param("text") String text, @Param("limit") int limit, @Param("offset") int offset);
+
+    @Query(value = "SELECT i.id AS id, i.name AS name, i.description AS description, " +
+            "i.is_available AS available, i.user_id AS owner, i.request_id AS \"requestId\" FROM items AS i " +
+            "WHERE i.is_available = TRUE " +
+            "AND (to_tsvector('simple', i.name || ' ' || i.description) @@ plainto_tsquery('simple', :text) " +
+            "OR LOWER(i.name) LIKE '%' || :pattern || '%' " +
+            "OR LOWER(i.description) LIKE '%' || :pattern || '%') " +
+            "ORDER BY ts_rank(to_tsvector('simple', i.name || ' ' || i.description), plainto_tsquery('simple', :text)) DESC, " +
+            "similarity(LOWER(i.name), :text) DESC, i.id " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<ItemView> searchItemFullText(@Param("text") String text, @Param("pattern") String pattern,
+                                  @Param("limit") int limit, @Param("offset") int offset);
+
+    @Query("SELECT i.id AS id, i.name AS name, i.description AS description, i.available AS available " +
+            "FROM Item i WHERE i.id > :afterId ORDER BY i.id")
+    List<ItemIndexView> findIndexBatch(@Param("afterId") Long afterId, Pageable pageable);
+}
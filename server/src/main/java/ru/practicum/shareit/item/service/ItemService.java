@@ -8,14 +8,20 @@ import java.util.List;
 public interface ItemService {
     ItemDto create(ItemCreateDto itemCreateDto, Long owner);
 
+    List<ItemImportResultDto> createAll(List<ItemCreateDto> items, Long owner);
+
     ItemDto update(ItemCreateDto itemCreateDto, Long owner, Long id);
 
     ItemFullDto getItem(Long itemId, Long userId);
 
     List<ItemDto> getItemsForOwner(Long owner);
 
+    List<ItemFullDto> getFullItemsForOwner(Long owner);
+
     List<ItemDto> itemSearch(String text);
 
+    List<ItemDto> itemSearch(String text, int offset, int limit);
+
     Item checkItemExist(Long id);
 
     CommentResponseDto addCommentToItem(Long id, Long item, CommentDto commentDto);
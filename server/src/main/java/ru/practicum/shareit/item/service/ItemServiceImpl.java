@@ -1,32 +1,42 @@
 package ru.practicum.shareit.item.service;
 
-import jakarta.transaction.Transactional;
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
 import ru.practicum.shareit.booking.dto.BookingMapper;
 import ru.practicum.shareit.booking.service.BookingRepository;
+import ru.practicum.shareit.context.EntityContext;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.service.ItemRequestRepository;
+import ru.practicum.shareit.retry.RetryOnConflict;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.service.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
     private final BookingRepository bookingRepository;
@@ -35,26 +45,71 @@ public class ItemServiceImpl implements ItemService {
     private final ItemMapper itemMapper;
     private final CommentMapper commentMapper;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemSearchEngine itemSearchEngine;
+    private final EntityContext entityContext;
 
     @Override
     public ItemDto create(ItemCreateDto itemCreateDto, Long owner) {
         checkUserExist(owner);
 
-        Item item = itemMapper.dtoToItem(itemCreateDto, 0L, owner, null);
+        Item item = itemMapper.dtoToItem(itemCreateDto, null, owner, null);
 
         if (itemCreateDto.getRequestId() != null) {
             ItemRequest request = itemRequestRepository.findById(itemCreateDto.getRequestId())
                     .orElseThrow(() -> new NotFoundException("Запрос не найден"));
             item.setRequest(request);
         }
-        return itemMapper.toItemDto(itemRepository.save(item));
+        Item saved = itemRepository.save(item);
+        itemSearchEngine.index(saved);
+        return itemMapper.toItemDto(saved);
+    }
+
+    /**
+     * Сохраняет порцию вещей одной транзакцией: владелец проверяется один раз, запросы загружаются одним
+     * запросом по всем {@code requestId}, вещи вставляются пакетами JDBC. Строка со ссылкой на несуществующий
+     * запрос не сохраняется, остальные сохраняются. Результаты идут в порядке строк.
+     */
+    @Override
+    public List<ItemImportResultDto> createAll(List<ItemCreateDto> items, Long owner) {
+        checkUserExist(owner);
+        Set<Long> requestIds = items.stream()
+                .map(ItemCreateDto::getRequestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, ItemRequest> requests = requestIds.isEmpty() ? Map.of()
+                : itemRequestRepository.findAllById(requestIds).stream()
+                .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+
+        List<ItemImportResultDto> results = new ArrayList<>(items.size());
+        List<Item> toSave = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            ItemCreateDto dto = items.get(i);
+            ItemRequest request = dto.getRequestId() == null ? null : requests.get(dto.getRequestId());
+            if (dto.getRequestId() != null && request == null) {
+                results.add(new ItemImportResultDto(i + 1, null, "Запрос не найден"));
+                continue;
+            }
+            // id == null: вещь сохраняется через persist без предварительного select
+            toSave.add(itemMapper.dtoToItem(dto, null, owner, request));
+            results.add(new ItemImportResultDto(i + 1, null, null));
+        }
+        List<Item> saved = itemRepository.saveAll(toSave);
+        saved.forEach(itemSearchEngine::index);
+
+        Iterator<Item> savedItems = saved.iterator();
+        results.stream()
+                .filter(result -> result.getError() == null)
+                .forEach(result -> result.setId(savedItems.next().getId()));
+        log.info("Пользователь {} импортировал {} вещей из {}", owner, saved.size(), items.size());
+        return results;
     }
 
     @Override
+    @RetryOnConflict
     public ItemDto update(ItemCreateDto itemCreateDto, Long owner, Long id) {
         checkUserExist(owner);
-        checkItemExist(id);
-        Item existingItem = checkItemExist(id);
+        Item existingItem = itemRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Вещь с id " + id + " не найдена"));
         if (!Objects.equals(existingItem.getOwner(), owner)) {
             throw new NotFoundException("Пользователь не является владельцем вещи");
         }
@@ -68,7 +123,10 @@ public class ItemServiceImpl implements ItemService {
             existingItem.setAvailable(itemCreateDto.getAvailable());
         }
 
-        return itemMapper.toItemDto(itemRepository.save(existingItem));
+        Item saved = itemRepository.save(existingItem);
+        entityContext.evict(Item.class, id);
+        itemSearchEngine.index(saved);
+        return itemMapper.toItemDto(saved);
     }
 
     @Override
@@ -95,36 +153,77 @@ public class ItemServiceImpl implements ItemService {
                     .map(bookingMapper::toBookingCreationDto)
                     .orElse(null);
         }
-        User user = userRepository.findById(item.getOwner())
+        User user = entityContext.find(User.class, item.getOwner(), userRepository::findCachedById)
                 .orElseThrow(() -> new NotFoundException("Пользователь с id " + item.getOwner() + " не найден"));
         return itemMapper.toFullItem(item, lasBooking, nextBooking, commentList, user);
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<ItemDto> getItemsForOwner(Long owner) {
-        return itemRepository.findByOwner(owner).stream()
-                .map(itemMapper::toItemDto).toList();
+        return itemRepository.findDtosByOwner(owner);
+    }
+
+    @Override
+    public List<ItemFullDto> getFullItemsForOwner(Long owner) {
+        log.info("Получаем владельца {}", owner);
+        User user = entityContext.find(User.class, owner, userRepository::findCachedById)
+                .orElseThrow(() -> new NotFoundException("Пользователь с id " + owner + " не найден"));
+        List<Item> items = itemRepository.findByOwnerWithRequest(owner);
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        List<Long> itemIds = items.stream().map(Item::getId).toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        log.info("Получаем последние и следующие бронирования для {} вещей", itemIds.size());
+        Map<Long, BookingCreationDto> lastBookings = bookingRepository.findLastBookings(itemIds, now).stream()
+                .collect(Collectors.toMap(BookingCreationDto::getItemId, Function.identity(), (first, second) -> first));
+        Map<Long, BookingCreationDto> nextBookings = bookingRepository.findNextBookings(itemIds, now).stream()
+                .collect(Collectors.toMap(BookingCreationDto::getItemId, Function.identity(), (first, second) -> first));
+        log.info("Получаем комментарии для {} вещей", itemIds.size());
+        Map<Long, List<CommentDto>> comments = commentsRepository.findAllByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId(),
+                        Collectors.mapping(commentMapper::toCommentDto, Collectors.toList())));
+
+        return items.stream()
+                .map(item -> itemMapper.toFullItem(item,
+                        lastBookings.get(item.getId()),
+                        nextBookings.get(item.getId()),
+                        comments.getOrDefault(item.getId(), List.of()),
+                        user))
+                .toList();
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<ItemDto> itemSearch(String text) {
-        if (text.isEmpty()) {
+        return itemSearch(text, 0, DEFAULT_SEARCH_LIMIT);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<ItemDto> itemSearch(String text, int offset, int limit) {
+        String query = text.strip().toLowerCase();
+        if (query.isEmpty()) {
             return new ArrayList<>();
         }
-        return itemRepository.searchItem(text).stream()
-                .map(itemMapper::toItemDto).toList();
+        if (offset < 0 || limit < 1) {
+            throw new IllegalArgumentException("offset не может быть отрицательным, а limit должен быть положительным");
+        }
+        return itemSearchEngine.search(query, offset, limit);
     }
 
     @Override
     public Item checkItemExist(Long itemId) {
-        return itemRepository.findById(itemId)
+        return entityContext.find(Item.class, itemId, itemRepository::findCachedById)
                 .orElseThrow(() -> new NotFoundException("Пользователь с id " + itemId + " не найден"));
     }
 
     @Override
     public CommentResponseDto addCommentToItem(Long userId, Long itemId, CommentDto commentDto) {
         log.info("Проверяем существование пользователя");
-        User user = userRepository.findById(userId)
+        User user = entityContext.find(User.class, userId, userRepository::findCachedById)
                 .orElseThrow(() -> new NotFoundException("Пользователь с id " + userId + " не найден"));
         log.info("Проверяем существование вещи");
         Item item = checkItemExist(itemId);
@@ -132,13 +231,13 @@ public class ItemServiceImpl implements ItemService {
         if (bookingRepository.findAllByUserBookings(userId, itemId, now).isEmpty()) {
             throw new ValidationException("Пользователь не брал вещь в аренду");
         } else {
-            Comment comment = commentMapper.toComment(1L, commentDto, item, user, now);
+            Comment comment = commentMapper.toComment(null, commentDto, item, user, now);
             return commentMapper.toCommentResponseDto(commentsRepository.save(comment));
         }
     }
 
     public void checkUserExist(Long id) {
-        if (!userRepository.existsById(id)) {
+        if (entityContext.find(User.class, id, userRepository::findCachedById).isEmpty()) {
             throw new NotFoundException("Пользователь с id " + id + " не найден");
         }
     }
@@ -6,6 +6,7 @@ import lombok.NoArgsConstructor;
 import ru.practicum.shareit.item.dto.ItemDtoForRequest;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Data
@@ -16,4 +17,11 @@ public class ItemRequestAnswerDto {
     String description;
     LocalDateTime created;
     List<ItemDtoForRequest> items;
+
+    /**
+     * Конструктор для JPQL-проекции; ответы на запрос заполняются отдельным запросом.
+     */
+    public ItemRequestAnswerDto(Long id, String description, LocalDateTime created) {
+        this(id, description, created, new ArrayList<>());
+    }
 }
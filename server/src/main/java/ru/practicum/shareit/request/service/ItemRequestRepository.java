@@ -1,8 +1,9 @@
 package ru.practicum.shareit.request.service;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.request.dto.ItemRequestAnswerDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 
 import java.util.List;
@@ -10,5 +11,7 @@ import java.util.List;
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
     List<ItemRequest> findByRequesterIdOrderByCreatedDesc(Long requesterId);
 
-    Page<ItemRequest> findAllByOrderByCreatedDesc(Pageable pageable);
+    @Query("SELECT new ru.practicum.shareit.request.dto.ItemRequestAnswerDto(r.id, r.description, r.created) " +
+            "FROM ItemRequest r ORDER BY r.created DESC, r.id DESC")
+    List<ItemRequestAnswerDto> findAllDtos(Pageable pageable);
 }
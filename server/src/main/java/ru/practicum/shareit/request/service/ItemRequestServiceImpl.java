@@ -6,8 +6,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.context.EntityContext;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemDtoForRequest;
+import ru.practicum.shareit.item.dto.ItemForRequestView;
 import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.item.service.ItemRepository;
 import ru.practicum.shareit.request.dto.ItemRequestAnswerDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestMapper;
@@ -17,6 +21,8 @@ import ru.practicum.shareit.user.service.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,16 +31,18 @@ import java.util.List;
 public class ItemRequestServiceImpl implements ItemRequestService {
 
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemRepository itemRepository;
     private final ItemRequestMapper itemRequestMapper;
     private final UserRepository userRepository;
     private final ItemMapper itemMapper;
+    private final EntityContext entityContext;
 
     @Override
     public ItemRequest create(ItemRequestDto dto, Long user) {
         log.info("Проверяем существование пользователя {}", user);
         getUser(user);
         log.info("Создаем запрос");
-        return itemRequestRepository.save(itemRequestMapper.toItemRequest(0L, dto, user, LocalDateTime.now(), null));
+        return itemRequestRepository.save(itemRequestMapper.toItemRequest(null, dto, user, LocalDateTime.now(), null));
     }
 
     @Transactional(readOnly = true)
@@ -52,17 +60,22 @@ public class ItemRequestServiceImpl implements ItemRequestService {
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     @Override
     public List<ItemRequestAnswerDto> getAllRequests(int limit, int offset) {
         Pageable pageable = PageRequest.of(offset / limit, limit);
-        return itemRequestRepository.findAllByOrderByCreatedDesc(pageable).stream()
-                .map(request -> itemRequestMapper.toItemRequestAnswerDto(
-                        request,
-                        request.getItems().stream()
-                                .map(itemMapper::toItemDtoForRequest)
-                                .toList()
-                ))
-                .toList();
+        List<ItemRequestAnswerDto> requests = itemRequestRepository.findAllDtos(pageable);
+        if (requests.isEmpty()) {
+            return requests;
+        }
+        log.info("Получаем ответы на {} запросов", requests.size());
+        Map<Long, List<ItemDtoForRequest>> items = itemRepository.findForRequests(requests.stream()
+                        .map(ItemRequestAnswerDto::getId)
+                        .toList()).stream()
+                .collect(Collectors.groupingBy(ItemForRequestView::getRequestId,
+                        Collectors.mapping(itemMapper::viewToItemDtoForRequest, Collectors.toList())));
+        requests.forEach(request -> request.setItems(items.getOrDefault(request.getId(), List.of())));
+        return requests;
     }
 
     @Transactional(readOnly = true)
@@ -80,7 +93,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     }
 
     public User getUser(Long id) {
-        return userRepository.findById(id)
+        return entityContext.find(User.class, id, userRepository::findCachedById)
                 .orElseThrow(() -> new NotFoundException("Пользователь с id " + id + " не найден"));
     }
 }
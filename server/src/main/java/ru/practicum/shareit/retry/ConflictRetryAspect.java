@@ -0,0 +1,87 @@
+package ru.practicum.shareit.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.exception.ConflictException;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Выполняет методы {@link RetryOnConflict} заново при {@link ConcurrencyFailureException}: устаревшей версии
+ * сущности ({@code @Version}), взаимоблокировке, таймауте блокировки. Аспект стоит снаружи транзакционного
+ * прокси, поэтому каждая попытка откатывает свою транзакцию и читает данные заново. Если попытки исчерпаны,
+ * клиент получает {@link ConflictException} (409).
+ * <p>
+ * Метод, вызванный внутри чужой транзакции, не повторяется: откат затронул бы и внешнюю транзакцию.
+ * Конфликты считаются в метрике {@value #METRIC} с тегами {@code method} и
+ * {@code outcome} ({@code retried} — попытка повторена, {@code exhausted} — попытки исчерпаны).
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ConflictRetryAspect {
+    public static final String METRIC = "shareit.concurrency.conflicts";
+
+    private final ConflictRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(ru.practicum.shareit.retry.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        String method = joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+                + joinPoint.getSignature().getName();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= properties.getMaxAttempts()) {
+                    conflicts(method, "exhausted").increment();
+                    log.warn("{}: конфликт параллельного изменения, попытки исчерпаны ({})", method, attempt);
+                    throw new ConflictException("Данные изменены параллельным запросом, повторите операцию");
+                }
+                conflicts(method, "retried").increment();
+                log.debug("{}: конфликт параллельного изменения, попытка {}: {}", method, attempt, e.getMessage());
+                pause(attempt);
+            }
+        }
+    }
+
+    /**
+     * Пауза со случайной задержкой («full jitter») после неудачной попытки {@code attempt}.
+     */
+    private void pause(int attempt) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long ceiling = Math.min(properties.getMaxBackoff().toMillis(), initial << Math.min(attempt - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Повтор операции прерван");
+        }
+    }
+
+    private Counter conflicts(String method, String outcome) {
+        return Counter.builder(METRIC)
+                .description("Конфликты параллельного изменения в методах @RetryOnConflict")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,9 @@
+package ru.practicum.shareit.retry;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ConflictRetryProperties.class)
+public class ConflictRetryConfig {
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.retry;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Повторы методов {@link RetryOnConflict}. Пауза перед попыткой {@code n} выбирается случайно
+ * из {@code [0, min(maxBackoff, initialBackoff * 2^(n-2))]}, чтобы конкурирующие экземпляры сервера
+ * не повторяли запись одновременно.
+ */
+@Data
+@ConfigurationProperties(prefix = "shareit.retry")
+public class ConflictRetryProperties {
+    /**
+     * Число попыток вместе с первой; {@code 1} — без повторов.
+     */
+    private int maxAttempts = 3;
+
+    private Duration initialBackoff = Duration.ofMillis(20);
+
+    private Duration maxBackoff = Duration.ofMillis(200);
+}
@@ -0,0 +1,20 @@
+package ru.practicum.shareit.retry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Повторяет метод сервиса, если его транзакция завершилась конфликтом параллельного изменения
+ * (устаревшая версия сущности, взаимоблокировка). Каждая попытка выполняется в новой транзакции,
+ * поэтому метод должен быть транзакционным сам и не вызываться из внешней транзакции.
+ *
+ * @see ConflictRetryAspect
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -1,9 +1,43 @@
 package ru.practicum.shareit.user.service;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.user.model.User;
 
+import java.util.Optional;
+
 
 public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Чтение через кэш. Возвращаемый объект общий для всех запросов, поэтому его нельзя изменять:
+     * для изменения пользователь загружается через {@link #findById}.
+     */
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#p0", unless = "#result == null")
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findCachedById(@Param("id") Long id);
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#result.id")
+    <S extends User> S save(S entity);
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, key = "#p0"),
+            @CacheEvict(cacheNames = CacheConfig.ITEMS, allEntries = true)
+    })
+    void deleteById(Long id);
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.ITEMS, allEntries = true)
+    })
+    void deleteAll();
+}
@@ -6,7 +6,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
+import ru.practicum.shareit.context.EntityContext;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.service.ItemAvailabilityService;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserMapper;
 import ru.practicum.shareit.user.model.User;
@@ -23,6 +25,8 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final EntityContext entityContext;
+    private final ItemAvailabilityService itemAvailabilityService;
 
     @Override
     public UserDto create(UserDto userDto) {
@@ -50,7 +54,9 @@ public class UserServiceImpl implements UserService {
             existingUser.setEmail(userDto.getEmail());
         }
 
-        return userMapper.toDto(userRepository.save(existingUser));
+        User saved = userRepository.save(existingUser);
+        entityContext.evict(User.class, id);
+        return userMapper.toDto(saved);
     }
 
     @Override
@@ -58,7 +64,7 @@ public class UserServiceImpl implements UserService {
         if (id == null) {
             throw new IllegalArgumentException("id не может быть null");
         }
-        Optional<User> user = userRepository.findById(id);
+        Optional<User> user = entityContext.find(User.class, id, userRepository::findCachedById);
         if (user.isEmpty()) {
             throw new NotFoundException("Пользователь с ID=" + id + " не найден");
         } else {
@@ -87,7 +93,9 @@ public class UserServiceImpl implements UserService {
             log.info("Проверяем, существует ли пользователь");
             checkUserExist(id);
             log.info("Удаляем пользователя");
+            itemAvailabilityService.invalidateForUser(id);
             userRepository.deleteById(id);
+            entityContext.evict(User.class, id);
         } catch (NullPointerException e) {
             throw new NotFoundException("Пользователь с ID=" + id + " не найден");
         }
@@ -102,7 +110,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public void checkUserExist(Long id) {
-        if (!userRepository.existsById(id)) {
+        if (entityContext.find(User.class, id, userRepository::findCachedById).isEmpty()) {
             throw new NotFoundException("Пользователь с id " + id + " не найден");
         }
     }
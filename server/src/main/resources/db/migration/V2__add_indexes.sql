@@ -0,0 +1,14 @@
+-- последнее и следующее подтвержденное бронирование вещи, проверка пересечений, занятые интервалы
+CREATE INDEX IF NOT EXISTS idx_bookings_item_status_start ON bookings (item_id, status, start_date);
+-- бронирования пользователя, новые первыми
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_start ON bookings (booker_id, start_date DESC);
+-- вещи владельца; через них же выбираются бронирования владельца
+CREATE INDEX IF NOT EXISTS idx_items_user_id ON items (user_id);
+-- ответы на запросы
+CREATE INDEX IF NOT EXISTS idx_items_request_id ON items (request_id);
+-- отзывы о вещи
+CREATE INDEX IF NOT EXISTS idx_comments_item_id ON comments (item_id);
+-- запросы пользователя, новые первыми
+CREATE INDEX IF NOT EXISTS idx_requests_requester_created ON requests (requester_id, creation_date DESC);
+-- лента всех запросов, новые первыми
+CREATE INDEX IF NOT EXISTS idx_requests_created ON requests (creation_date DESC);
@@ -0,0 +1,10 @@
+-- последовательности идентификаторов. Hibernate берет из них сразу по 50 значений (allocationSize = 50,
+-- оптимизатор pooled-lo), поэтому вставка пачки строк не требует обращения к базе за каждым id
+-- и может отправляться пакетами JDBC. Шаг должен совпадать с allocationSize в сущностях.
+-- Столбцы id переводятся на эти последовательности миграцией V3_1 конкретной СУБД,
+-- начальные значения выставляет обратный вызов afterMigrate.sql там же
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS requests_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS items_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS bookings_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comments_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,4 @@
+-- версии строк для оптимистической блокировки (@Version в Item и Booking): изменение через JPA проверяет,
+-- что строку не изменили после чтения, и увеличивает версию. Массовые UPDATE бронирований увеличивают ее сами
+ALTER TABLE items ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
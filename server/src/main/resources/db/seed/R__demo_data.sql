@@ -0,0 +1,62 @@
+-- Демонстрационные данные. Вставляются только с профилем seed: он задает плейсхолдер seed = true
+-- (см. application-seed.properties), без профиля миграция выполняется, но ничего не вставляет.
+-- Повторяемая миграция: Flyway выполняет ее заново при изменении файла, поэтому каждая вставка
+-- проверяет, что строки еще нет, и повторный запуск не создает дубликатов и не трогает остальные данные.
+-- Id задаются явно, следующими за максимальным: последовательности выдают id с шагом 50, а демонстрационные
+-- строки нумеруются подряд. После миграций последовательности сдвигаются за эти id (db/vendor/*/afterMigrate.sql).
+
+-- пользователи
+INSERT INTO users (id, name, email)
+SELECT (SELECT COALESCE(MAX(id), 0) + 1 FROM users), 'Алексей Иванов', 'ivanov@example.com'
+WHERE NOT EXISTS (SELECT 1 FROM users WHERE email = 'ivanov@example.com') AND '${seed}' = 'true';
+
+INSERT INTO users (id, name, email)
+SELECT (SELECT COALESCE(MAX(id), 0) + 1 FROM users), 'Мария Петрова', 'petrova@example.com'
+WHERE NOT EXISTS (SELECT 1 FROM users WHERE email = 'petrova@example.com') AND '${seed}' = 'true';
+
+INSERT INTO users (id, name, email)
+SELECT (SELECT COALESCE(MAX(id), 0) + 1 FROM users), 'Сергей Смирнов', 'smirnov@example.com'
+WHERE NOT EXISTS (SELECT 1 FROM users WHERE email = 'smirnov@example.com') AND '${seed}' = 'true';
+
+INSERT INTO users (id, name, email)
+SELECT (SELECT COALESCE(MAX(id), 0) + 1 FROM users), 'Ольга Кузнецова', 'kuznetsova@example.com'
+WHERE NOT EXISTS (SELECT 1 FROM users WHERE email = 'kuznetsova@example.com') AND '${seed}' = 'true';
+
+-- запросы
+INSERT INTO requests (id, description, requester_id, creation_date)
+SELECT (SELECT COALESCE(MAX(id), 0) + 1 FROM requests), 'Хочу найти чемодан на неделю', (SELECT id FROM users WHERE email = 'petrova@example.com'), TIMESTAMP '2025-06-18 10:00:00'
+WHERE NOT EXISTS (SELECT 1 FROM requests WHERE description = 'Хочу найти чемодан на неделю' AND requester_id = (SELECT id FROM users WHERE email = 'petrova@example.com')) AND '${seed}' = 'true';
+
+INSERT INTO requests (id, description, requester_id, creation_date)
+SELECT (SELECT COALESCE(MAX(id), 0) + 1 FROM requests), 'Хочу найти дрель на неделю', (SELECT id FROM users WHERE email = 'kuznetsova@example.com'), TIMESTAMP '2025-06-18 12:00:00'
+WHERE NOT EXISTS (SELECT 1 FROM requests WHERE description = 'Хочу найти дрель на неделю' AND requester_id = (SELECT id FROM users WHERE email = 'kuznetsova@example.com')) AND '${seed}' = 'true';
+
+-- вещи
+INSERT INTO items (id, name, description, is_available, user_id, request_id)
+SELECT (SELECT COALESCE(MAX(id), 0) + 1 FROM items), 'Чемодан', 'Большой чемодан на 4 колесах', TRUE, (SELECT id FROM users WHERE email = 'ivanov@example.com'), (SELECT id FROM requests WHERE description = 'Хочу найти чемодан на неделю')
+WHERE NOT EXISTS (SELECT 1 FROM items WHERE name = 'Чемодан' AND user_id = (SELECT id FROM users WHERE email = 'ivanov@example.com')) AND '${seed}' = 'true';
+
+INSERT INTO items (id, name, description, is_available, user_id, request_id)
+SELECT (SELECT COALESCE(MAX(id), 0) + 1 FROM items), 'Велосипед', 'Горный велосипед Trek', TRUE, (SELECT id FROM users WHERE email = 'smirnov@example.com'), NULL
+WHERE NOT EXISTS (SELECT 1 FROM items WHERE name = 'Велосипед' AND user_id = (SELECT id FROM users WHERE email = 'smirnov@example.com')) AND '${seed}' = 'true';
+
+-- бронирования
+INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status)
+SELECT (SELECT COALESCE(MAX(id), 0) + 1 FROM bookings), TIMESTAMP '2025-06-16 10:00:00', TIMESTAMP '2025-06-16 20:00:00', (SELECT id FROM items WHERE name = 'Чемодан' AND user_id = (SELECT id FROM users WHERE email = 'ivanov@example.com')), (SELECT id FROM users WHERE email = 'petrova@example.com'), 'APPROVED'
+WHERE NOT EXISTS (SELECT 1 FROM bookings WHERE item_id = (SELECT id FROM items WHERE name = 'Чемодан' AND user_id = (SELECT id FROM users WHERE email = 'ivanov@example.com'))
+  AND booker_id = (SELECT id FROM users WHERE email = 'petrova@example.com') AND start_date = TIMESTAMP '2025-06-16 10:00:00') AND '${seed}' = 'true';
+
+INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status)
+SELECT (SELECT COALESCE(MAX(id), 0) + 1 FROM bookings), TIMESTAMP '2025-06-17 10:00:00', TIMESTAMP '2025-06-17 20:00:00', (SELECT id FROM items WHERE name = 'Чемодан' AND user_id = (SELECT id FROM users WHERE email = 'ivanov@example.com')), (SELECT id FROM users WHERE email = 'smirnov@example.com'), 'WAITING'
+WHERE NOT EXISTS (SELECT 1 FROM bookings WHERE item_id = (SELECT id FROM items WHERE name = 'Чемодан' AND user_id = (SELECT id FROM users WHERE email = 'ivanov@example.com'))
+  AND booker_id = (SELECT id FROM users WHERE email = 'smirnov@example.com') AND start_date = TIMESTAMP '2025-06-17 10:00:00') AND '${seed}' = 'true';
+
+INSERT INTO bookings (id, start_date, end_date, item_id, booker_id, status)
+SELECT (SELECT COALESCE(MAX(id), 0) + 1 FROM bookings), TIMESTAMP '2025-06-18 10:00:00', TIMESTAMP '2025-06-18 15:00:00', (SELECT id FROM items WHERE name = 'Велосипед' AND user_id = (SELECT id FROM users WHERE email = 'smirnov@example.com')), (SELECT id FROM users WHERE email = 'kuznetsova@example.com'), 'APPROVED'
+WHERE NOT EXISTS (SELECT 1 FROM bookings WHERE item_id = (SELECT id FROM items WHERE name = 'Велосипед' AND user_id = (SELECT id FROM users WHERE email = 'smirnov@example.com'))
+  AND booker_id = (SELECT id FROM users WHERE email = 'kuznetsova@example.com') AND start_date = TIMESTAMP '2025-06-18 10:00:00') AND '${seed}' = 'true';
+
+-- отзывы
+INSERT INTO comments (id, text, created, item_id, author_id)
+SELECT (SELECT COALESCE(MAX(id), 0) + 1 FROM comments), 'Отличный велосипед!', TIMESTAMP '2025-06-18 12:00:00', (SELECT id FROM items WHERE name = 'Велосипед' AND user_id = (SELECT id FROM users WHERE email = 'smirnov@example.com')), (SELECT id FROM users WHERE email = 'kuznetsova@example.com')
+WHERE NOT EXISTS (SELECT 1 FROM comments WHERE item_id = (SELECT id FROM items WHERE name = 'Велосипед' AND user_id = (SELECT id FROM users WHERE email = 'smirnov@example.com')) AND author_id = (SELECT id FROM users WHERE email = 'kuznetsova@example.com')) AND '${seed}' = 'true';
@@ -0,0 +1,113 @@
+package ru.practicum.shareit;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatabaseRestartTest {
+
+    @Test
+    @DisplayName("Перезапуск сервера: данные сохраняются, миграции и демонстрационные данные не применяются повторно")
+    void restart_shouldKeepData() throws IOException {
+        String url = "jdbc:h2:mem:restart-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        Long userId;
+        try (ConfigurableApplicationContext context = start(url)) {
+            assertThat(countUsers(context)).isEqualTo(4);
+            userId = context.getBean(UserService.class).create(new UserDto(null, "New", "new@mail.ru")).getId();
+        }
+
+        try (ConfigurableApplicationContext context = start(url)) {
+            assertThat(context.getBean(Flyway.class).info().pending()).isEmpty();
+            assertThat(countUsers(context)).isEqualTo(5);
+            assertThat(context.getBean(UserService.class).getUser(userId).getEmail()).isEqualTo("new@mail.ru");
+
+            String seed = new ClassPathResource("db/seed/R__demo_data.sql").getContentAsString(StandardCharsets.UTF_8)
+                    .replace("${seed}", "true");
+            new ResourceDatabasePopulator(new ByteArrayResource(seed.getBytes(StandardCharsets.UTF_8)))
+                    .execute(context.getBean(DataSource.class));
+            assertThat(countUsers(context)).isEqualTo(5);
+        }
+    }
+
+    @Test
+    @DisplayName("Перезапуск сервера: после запуска с профилем seed сервер стартует и без него, данные сохраняются")
+    void restart_withoutSeedProfile_shouldStart() {
+        String url = "jdbc:h2:mem:restart-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        try (ConfigurableApplicationContext context = start(url)) {
+            assertThat(countUsers(context)).isEqualTo(4);
+        }
+
+        // без тестовой config/application.properties, которая включает профиль seed
+        try (ConfigurableApplicationContext context = start(url, "--spring.config.location=classpath:/")) {
+            assertThat(context.getEnvironment().getActiveProfiles()).doesNotContain("seed");
+            assertThat(context.getBean(Flyway.class).info().pending()).isEmpty();
+            assertThat(countUsers(context)).isEqualTo(4);
+        }
+
+        try (ConfigurableApplicationContext context = start(url)) {
+            assertThat(context.getBean(Flyway.class).info().pending()).isEmpty();
+            assertThat(countUsers(context)).isEqualTo(4);
+        }
+    }
+
+    @Test
+    @DisplayName("Перезапуск сервера: профиль seed, включенный после запуска без него, добавляет демонстрационные данные")
+    void restart_withSeedProfileAdded_shouldInsertDemoData() {
+        String url = "jdbc:h2:mem:restart-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        try (ConfigurableApplicationContext context = start(url, "--spring.config.location=classpath:/")) {
+            assertThat(context.getBean(Flyway.class).info().pending()).isEmpty();
+            assertThat(countUsers(context)).isZero();
+        }
+
+        try (ConfigurableApplicationContext context = start(url)) {
+            assertThat(context.getBean(Flyway.class).info().pending()).isEmpty();
+            assertThat(countUsers(context)).isEqualTo(4);
+        }
+    }
+
+    @Test
+    @DisplayName("Перезапуск сервера: последовательность id сдвигается за строки, вставленные с явным id")
+    void restart_shouldMoveSequencePastExplicitIds() {
+        String url = "jdbc:h2:mem:restart-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        try (ConfigurableApplicationContext context = start(url)) {
+            context.getBean(JdbcTemplate.class)
+                    .update("INSERT INTO users (id, name, email) VALUES (1000, 'Перенесенный', 'moved@mail.ru')");
+        }
+
+        try (ConfigurableApplicationContext context = start(url)) {
+            Long id = context.getBean(UserService.class).create(new UserDto(null, "New", "new@mail.ru")).getId();
+            assertThat(id).isEqualTo(1001L);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String url, String... args) {
+        String[] arguments = Arrays.copyOf(args, args.length + 1);
+        arguments[args.length] = "--spring.datasource.url=" + url;
+        return new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run(arguments);
+    }
+
+    private static Integer countUsers(ConfigurableApplicationContext context) {
+        return context.getBean(JdbcTemplate.class).queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+    }
+}
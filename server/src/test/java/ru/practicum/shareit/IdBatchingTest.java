@@ -0,0 +1,71 @@
+package ru.practicum.shareit;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserRepository;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class IdBatchingTest {
+    private static final int ITEMS = 100;
+
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Пакетная вставка: 100 вещей сохраняются двумя пакетами, id из последовательности идут подряд")
+    void saveAll_shouldBatchInserts() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Item> items = IntStream.range(0, ITEMS)
+                .mapToObj(i -> Item.builder().name("Дрель " + i).description("Ударная дрель").available(true)
+                        .owner(1L).build())
+                .toList();
+        List<Item> saved = transactionTemplate.execute(status -> itemRepository.saveAll(items));
+
+        // два обращения к последовательности (по 50 id) и два пакета INSERT вместо 100 отдельных операторов
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        long firstId = saved.get(0).getId();
+        assertThat(saved).extracting(Item::getId)
+                .containsExactlyElementsOf(LongStream.range(firstId, firstId + ITEMS).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("Последовательности: строка, вставленная SQL без id, не пересекается с id, выданными Hibernate")
+    void sqlInsert_shouldNotCollideWithHibernateIds() {
+        User first = userRepository.save(new User(null, "Первый", "first@mail.ru"));
+        jdbcTemplate.update("INSERT INTO users (name, email) VALUES ('Из SQL', 'sql@mail.ru')");
+        User second = userRepository.save(new User(null, "Второй", "second@mail.ru"));
+
+        Long sqlId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'sql@mail.ru'", Long.class);
+        // оба id из одного блока Hibernate, SQL получает следующее значение последовательности за блоком
+        assertThat(second.getId()).isEqualTo(first.getId() + 1);
+        assertThat(sqlId).isNotIn(first.getId(), second.getId()).isGreaterThan(second.getId());
+    }
+}
@@ -0,0 +1,73 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SchemaIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Миграции: все индексы созданы")
+    void migrations_shouldCreateIndexes() {
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT LOWER(index_name) FROM information_schema.indexes WHERE table_schema = 'PUBLIC'", String.class);
+
+        assertThat(indexes).contains(
+                "idx_bookings_item_status_start",
+                "idx_bookings_booker_start",
+                "idx_items_user_id",
+                "idx_items_request_id",
+                "idx_comments_item_id",
+                "idx_requests_requester_created",
+                "idx_requests_created");
+    }
+
+    @Test
+    @DisplayName("План запроса: последнее и следующее бронирование вещи ищутся по составному индексу")
+    void lastBooking_shouldUseItemStatusStartIndex() {
+        assertThat(explain("SELECT * FROM bookings WHERE item_id = 1 AND status = 'APPROVED' " +
+                "AND start_date < CURRENT_TIMESTAMP ORDER BY start_date DESC LIMIT 1"))
+                .contains("IDX_BOOKINGS_ITEM_STATUS_START");
+        assertThat(explain("SELECT COUNT(*) FROM bookings WHERE item_id = 1 AND status = 'APPROVED' " +
+                "AND start_date < CURRENT_TIMESTAMP AND end_date > CURRENT_TIMESTAMP"))
+                .contains("IDX_BOOKINGS_ITEM_STATUS_START");
+    }
+
+    @Test
+    @DisplayName("План запроса: лента запросов читается по индексу без сортировки")
+    void allRequests_shouldUseCreatedIndex() {
+        assertThat(explain("SELECT * FROM requests ORDER BY creation_date DESC LIMIT 10"))
+                .contains("IDX_REQUESTS_CREATED")
+                .contains("index sorted");
+    }
+
+    @Test
+    @DisplayName("План запроса: выборки по пользователю, вещи и запросу не просматривают таблицу целиком")
+    void lookups_shouldNotScanTables() {
+        List<String> queries = List.of(
+                "SELECT * FROM bookings WHERE booker_id = 1 ORDER BY start_date DESC",
+                "SELECT b.* FROM bookings b JOIN items i ON i.id = b.item_id WHERE i.user_id = 1 " +
+                        "ORDER BY b.start_date DESC",
+                "SELECT * FROM items WHERE request_id IN (1, 2)",
+                "SELECT * FROM comments WHERE item_id = 1",
+                "SELECT * FROM requests WHERE requester_id = 1 ORDER BY creation_date DESC");
+
+        for (String query : queries) {
+            assertThat(explain(query)).as(query).doesNotContain("tableScan");
+        }
+    }
+
+    private String explain(String query) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + query, String.class);
+    }
+}
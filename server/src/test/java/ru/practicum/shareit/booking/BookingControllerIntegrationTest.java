@@ -9,11 +9,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
-import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -23,8 +24,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @ActiveProfiles("test")
-@Sql("/schema.sql")
-@Sql("/data.sql")
 public class BookingControllerIntegrationTest {
 
     @Autowired
@@ -113,6 +112,32 @@ public class BookingControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("Решение по нескольким бронированиям. Результат по каждому id")
+    void updateBookingStatuses_Success() throws Exception {
+        mockMvc.perform(patch("/bookings/bulk")
+                        .header("X-Sharer-User-Id", USER_ID_1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new BookingDecisionDto(List.of(BOOKING_ID_2, BOOKING_ID_1, 999L), true))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].status").value("APPROVED"))
+                .andExpect(jsonPath("$[1].error").exists())
+                .andExpect(jsonPath("$[2].id").value(999))
+                .andExpect(jsonPath("$[2].error").value("Бронирование с id 999 не найдено"));
+    }
+
+    @Test
+    @DisplayName("Решение по нескольким бронированиям. Пустой список")
+    void updateBookingStatuses_Empty() throws Exception {
+        mockMvc.perform(patch("/bookings/bulk")
+                        .header("X-Sharer-User-Id", USER_ID_1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BookingDecisionDto(List.of(), false))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Получить бронирование по ID. Успешно")
     void getBookingById_Success() throws Exception {
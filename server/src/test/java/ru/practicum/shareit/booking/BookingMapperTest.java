@@ -20,7 +20,7 @@ class BookingMapperTest {
     @DisplayName("Преобразование DTO в Booking со всеми заполненными полями")
     void testToBooking_withAllFieldsFilled() {
         LocalDateTime now = LocalDateTime.now();
-        Item item = new Item(1L, "ItemName", "desc", true, null, null);
+        Item item = new Item(1L, "ItemName", "desc", true, null, null, null);
         User user = new User(1L, "user@example.com", "User");
         BookingCreationDto dto = new BookingCreationDto(1L, now, now.plusHours(1));
         Long id = 100L;
@@ -42,8 +42,8 @@ class BookingMapperTest {
     void testToBookingCreationDto_withValidBooking() {
         LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
         LocalDateTime end = LocalDateTime.of(2025, 1, 2, 10, 0);
-        Item item = new Item(5L, "ItemName", "desc", true, null, null);
-        Booking booking = new Booking(1L, start, end, item, new User(), BookingStatus.WAITING);
+        Item item = new Item(5L, "ItemName", "desc", true, null, null, null);
+        Booking booking = new Booking(1L, start, end, item, new User(), BookingStatus.WAITING, null);
 
         BookingCreationDto dto = BookingMapper.INSTANCE.toBookingCreationDto(booking);
 
@@ -58,9 +58,9 @@ class BookingMapperTest {
     void testToBookingDto_withValidBooking() {
         LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
         LocalDateTime end = LocalDateTime.of(2025, 1, 2, 10, 0);
-        Item item = new Item(5L, "ItemName", "desc", true, null, null);
+        Item item = new Item(5L, "ItemName", "desc", true, null, null, null);
         User booker = new User(10L, "Name", "email@example.com");
-        Booking booking = new Booking(1L, start, end, item, booker, BookingStatus.REJECTED);
+        Booking booking = new Booking(1L, start, end, item, booker, BookingStatus.REJECTED, null);
 
         BookingDto dto = BookingMapper.INSTANCE.toBookingDto(booking);
 
@@ -98,8 +98,8 @@ class BookingMapperTest {
     void testToBookingCreationDto_withValidData() {
         LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
         LocalDateTime end = LocalDateTime.of(2025, 1, 2, 10, 0);
-        Item item = new Item(5L, "ItemName", "desc", true, null, null);
-        Booking booking = new Booking(1L, start, end, item, new User(), BookingStatus.WAITING);
+        Item item = new Item(5L, "ItemName", "desc", true, null, null, null);
+        Booking booking = new Booking(1L, start, end, item, new User(), BookingStatus.WAITING, null);
 
         BookingCreationDto dto = BookingMapper.INSTANCE.toBookingCreationDto(booking);
 
@@ -142,7 +142,7 @@ class BookingMapperTest {
     @Test
     @DisplayName("Конвертация Booking с null датами")
     void testToBookingCreationDto_withNullDates() {
-        Item item = new Item(1L, "TestItem", "description", true, null, null);
+        Item item = new Item(1L, "TestItem", "description", true, null, null, null);
         Booking booking = new Booking();
         booking.setItem(item);
         booking.setStart(null);
@@ -8,18 +8,31 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionDto;
+import ru.practicum.shareit.booking.dto.BookingDecisionResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingPageDto;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.diagnostics.QueryCounter;
+import ru.practicum.shareit.exception.ConflictException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.ItemCreateDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.service.ItemRequestService;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserService;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,6 +50,12 @@ class BookingServiceImplTest {
     @Autowired
     private ItemService itemService;
 
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
     private LocalDateTime now;
     private ItemDto item;
     private Long userId;
@@ -122,6 +141,124 @@ class BookingServiceImplTest {
                 .hasMessageContaining("Одобрить бронирование может только владелец вещи");
     }
 
+    @Test
+    @DisplayName("Одобрение бронирования: решение принимается одним условным UPDATE без чтения бронирования")
+    void bookingApproved_shouldUpdateInSingleStatement() {
+        BookingDto rejected = bookingService.createBooking(userId, dto);
+        BookingDto approved = bookingService.createBooking(userId,
+                new BookingCreationDto(itemId, dto.getEnd(), dto.getEnd().plusHours(1)));
+
+        queryCounter.reset();
+        BookingDto result = bookingService.bookingApproved(ownerId, rejected.getId(), false);
+        assertThat(queryCounter.count()).isEqualTo(1);
+        assertThat(result.getStatus()).isEqualTo(BookingStatus.REJECTED);
+        assertThat(result).isEqualTo(bookingService.getBooking(userId, rejected.getId()));
+
+        queryCounter.reset();
+        assertThat(bookingService.bookingApproved(ownerId, approved.getId(), true).getStatus())
+                .isEqualTo(BookingStatus.APPROVED);
+        // обновление, блокировка вещи и проверка пересечений
+        assertThat(queryCounter.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Одобрение бронирования: повторное решение и несуществующее бронирование")
+    void bookingApproved_whenAlreadyDecided_shouldThrowException() {
+        BookingDto created = bookingService.createBooking(userId, dto);
+        bookingService.bookingApproved(ownerId, created.getId(), false);
+
+        assertThatThrownBy(() -> bookingService.bookingApproved(ownerId, created.getId(), true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("WAITING");
+        assertThatThrownBy(() -> bookingService.bookingApproved(99L, created.getId(), true))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> bookingService.bookingApproved(ownerId, 999L, true))
+                .isInstanceOf(NotFoundException.class);
+        assertThat(bookingService.getBooking(userId, created.getId()).getStatus()).isEqualTo(BookingStatus.REJECTED);
+    }
+
+    @Test
+    @DisplayName("Одобрение бронирования: из одновременных одобрения и отклонения проходит одно")
+    void bookingApproved_whenConcurrentDecisions_shouldApplyOnlyOne() throws Exception {
+        BookingDto created = bookingService.createBooking(userId, dto);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<BookingDto>> results = executor.invokeAll(List.<Callable<BookingDto>>of(
+                    () -> bookingService.bookingApproved(ownerId, created.getId(), true),
+                    () -> bookingService.bookingApproved(ownerId, created.getId(), false)));
+            BookingStatus applied = null;
+            int failed = 0;
+            for (Future<BookingDto> result : results) {
+                try {
+                    applied = result.get().getStatus();
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+                    failed++;
+                }
+            }
+            assertThat(failed).isEqualTo(1);
+            assertThat(bookingService.getBooking(userId, created.getId()).getStatus()).isEqualTo(applied);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Решение по нескольким бронированиям: результат по каждому id в порядке запроса")
+    void bookingsApproved_shouldReturnOutcomePerId() {
+        BookingDto first = bookingService.createBooking(userId, dto);
+        BookingDto overlapping = bookingService.createBooking(userId,
+                new BookingCreationDto(itemId, dto.getStart().plusMinutes(30), dto.getEnd().plusMinutes(30)));
+        BookingDto later = bookingService.createBooking(userId,
+                new BookingCreationDto(itemId, dto.getEnd(), dto.getEnd().plusHours(1)));
+
+        List<BookingDecisionResultDto> results = bookingService.bookingsApproved(ownerId, new BookingDecisionDto(
+                List.of(first.getId(), overlapping.getId(), 999L, first.getId(), later.getId()), true));
+
+        assertThat(results).extracting(BookingDecisionResultDto::getId)
+                .containsExactly(first.getId(), overlapping.getId(), 999L, later.getId());
+        assertThat(results).extracting(BookingDecisionResultDto::getStatus)
+                .containsExactly(BookingStatus.APPROVED, null, null, BookingStatus.APPROVED);
+        assertThat(results.get(1).getError()).contains("из того же решения");
+        assertThat(results.get(2).getError()).isEqualTo("Бронирование с id 999 не найдено");
+        assertThat(bookingService.getBooking(userId, overlapping.getId()).getStatus()).isEqualTo(BookingStatus.WAITING);
+
+        results = bookingService.bookingsApproved(userId, new BookingDecisionDto(List.of(overlapping.getId()), false));
+        assertThat(results.get(0).getError()).isEqualTo("Одобрить бронирование может только владелец вещи");
+
+        results = bookingService.bookingsApproved(ownerId,
+                new BookingDecisionDto(List.of(later.getId(), overlapping.getId()), true));
+        assertThat(results.get(0).getError()).contains("WAITING");
+        assertThat(results.get(1).getError()).contains("уже забронирована");
+    }
+
+    @Test
+    @DisplayName("Решение по нескольким бронированиям: отклонение одним оператором")
+    void bookingsApproved_whenRejecting_shouldUpdateInSingleStatement() {
+        List<Long> ids = List.of(
+                bookingService.createBooking(userId, dto).getId(),
+                bookingService.createBooking(userId, dto).getId(),
+                bookingService.createBooking(userId, dto).getId());
+
+        queryCounter.reset();
+        List<BookingDecisionResultDto> results = bookingService.bookingsApproved(ownerId,
+                new BookingDecisionDto(ids, false));
+
+        assertThat(queryCounter.count()).isEqualTo(1);
+        assertThat(results).extracting(BookingDecisionResultDto::getStatus).containsOnly(BookingStatus.REJECTED);
+        assertThat(bookingService.getBookingByOwnerId(ownerId, "REJECTED")).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Решение по нескольким бронированиям: пустой список и решение без approved")
+    void bookingsApproved_whenInvalidDecision_shouldThrowException() {
+        assertThatThrownBy(() -> bookingService.bookingsApproved(ownerId, new BookingDecisionDto(List.of(), true)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> bookingService.bookingsApproved(ownerId, new BookingDecisionDto(List.of(1L), null)))
+                .isInstanceOf(ValidationException.class);
+    }
+
     @Test
     @DisplayName("Получение бронирования по ID: пользователь не участник")
     void getBooking_whenUserNotParticipant_shouldThrowException() {
@@ -170,4 +307,110 @@ class BookingServiceImplTest {
 
         assertThat(bookings).isNotEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Получение бронирований: вещь, запрос и бронирующий загружаются одним запросом")
+    void getBookings_shouldNotIssueQueryPerBooking() {
+        for (int i = 0; i < 3; i++) {
+            Long requestId = itemRequestService.create(new ItemRequestDto("Запрос " + i), userId).getId();
+            Long requestedItemId = itemService.create(
+                    new ItemCreateDto("Item" + i, "Description", true, requestId), ownerId).getId();
+            bookingService.createBooking(userId, new BookingCreationDto(requestedItemId, dto.getStart(), dto.getEnd()));
+        }
+
+        queryCounter.reset();
+        assertThat(bookingService.getBookingByUserId(userId, "ALL")).hasSize(3);
+        assertThat(queryCounter.count()).isLessThanOrEqualTo(2);
+
+        queryCounter.reset();
+        assertThat(bookingService.getBookingByOwnerId(ownerId, "ALL")).hasSize(3);
+        assertThat(queryCounter.count()).isLessThanOrEqualTo(2);
+
+        queryCounter.reset();
+        assertThat(bookingService.getBookingPageByOwnerId(ownerId, "ALL", null, 10).getBookings()).hasSize(3);
+        assertThat(queryCounter.count()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Постраничное получение бронирований пользователя: курсор ведет на следующую страницу")
+    void getBookingPageByUserId_shouldWalkThroughAllPages() {
+        BookingDto earliest = bookingService.createBooking(userId, new BookingCreationDto(itemId, now, now.plusHours(1)));
+        for (int i = 1; i < 3; i++) {
+            bookingService.createBooking(userId, new BookingCreationDto(itemId, now.plusDays(i), now.plusDays(i).plusHours(1)));
+        }
+
+        BookingPageDto first = bookingService.getBookingPageByUserId(userId, "ALL", null, 2);
+        assertThat(first.getBookings()).hasSize(2);
+        assertThat(first.getBookings().get(0).getStart()).isAfter(first.getBookings().get(1).getStart());
+        assertThat(first.getNextCursor()).isNotNull();
+
+        BookingPageDto second = bookingService.getBookingPageByUserId(userId, "ALL", first.getNextCursor(), 2);
+        assertThat(second.getBookings()).hasSize(1);
+        assertThat(second.getBookings().get(0).getId()).isEqualTo(earliest.getId());
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Постраничное получение бронирований владельца: фильтр по состоянию")
+    void getBookingPageByOwnerId_withWaitingState_shouldReturnOnlyWaiting() {
+        BookingDto approved = bookingService.createBooking(userId, dto);
+        bookingService.bookingApproved(ownerId, approved.getId(), true);
+        BookingDto waiting = bookingService.createBooking(userId,
+                new BookingCreationDto(itemId, now.plusDays(2), now.plusDays(3)));
+
+        BookingPageDto page = bookingService.getBookingPageByOwnerId(ownerId, "WAITING", null, 10);
+
+        assertThat(page.getBookings()).extracting(BookingDto::getId).containsExactly(waiting.getId());
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Постраничное получение бронирований: некорректный курсор")
+    void getBookingPageByUserId_withBrokenCursor_shouldThrowException() {
+        assertThatThrownBy(() -> bookingService.getBookingPageByUserId(userId, "ALL", "not-a-cursor", 10))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Некорректный курсор");
+    }
+
+    @Test
+    @DisplayName("Создание бронирования: период пересекается с подтвержденным бронированием")
+    void createBooking_whenOverlapsApproved_shouldThrowConflict() {
+        dto.setStart(dto.getStart().truncatedTo(ChronoUnit.SECONDS));
+        dto.setEnd(dto.getEnd().truncatedTo(ChronoUnit.SECONDS));
+        BookingDto approved = bookingService.createBooking(userId, dto);
+        bookingService.bookingApproved(ownerId, approved.getId(), true);
+
+        assertThatThrownBy(() -> bookingService.createBooking(userId,
+                new BookingCreationDto(itemId, dto.getStart().plusMinutes(30), dto.getEnd().plusHours(1))))
+                .isInstanceOf(ConflictException.class);
+        assertThat(bookingService.createBooking(userId, new BookingCreationDto(itemId, dto.getEnd(),
+                dto.getEnd().plusHours(1))).getStatus()).isEqualTo(BookingStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("Одобрение бронирования: одновременное одобрение пересекающихся бронирований")
+    void bookingApproved_whenConcurrentOverlapping_shouldApproveOnlyOne() throws Exception {
+        BookingDto first = bookingService.createBooking(userId, dto);
+        BookingDto second = bookingService.createBooking(userId,
+                new BookingCreationDto(itemId, dto.getStart().plusMinutes(30), dto.getEnd().plusMinutes(30)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<BookingDto>> results = executor.invokeAll(List.<Callable<BookingDto>>of(
+                    () -> bookingService.bookingApproved(ownerId, first.getId(), true),
+                    () -> bookingService.bookingApproved(ownerId, second.getId(), true)));
+            int approved = 0;
+            for (Future<BookingDto> result : results) {
+                try {
+                    result.get();
+                    approved++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(ConflictException.class);
+                }
+            }
+            assertThat(approved).isEqualTo(1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
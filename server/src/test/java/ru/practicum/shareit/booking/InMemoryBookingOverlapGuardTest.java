@@ -0,0 +1,106 @@
+package ru.practicum.shareit.booking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingCreationDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.overlap.BookingOverlapGuard;
+import ru.practicum.shareit.booking.overlap.InMemoryBookingOverlapGuard;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.ConflictException;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "shareit.booking.overlap-guard=memory")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class InMemoryBookingOverlapGuardTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private BookingOverlapGuard bookingOverlapGuard;
+
+    private Long bookerId;
+    private Long ownerId;
+    private Long itemId;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        bookerId = userService.create(new UserDto(null, "Booker", "guard-booker@mail.ru")).getId();
+        ownerId = userService.create(new UserDto(null, "Owner", "guard-owner@mail.ru")).getId();
+        itemId = itemService.create(new ItemCreateDto("Дрель", "Ударная", true, null), ownerId).getId();
+        start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Интервалы в памяти: проверка выбрана свойством, пересечения отклоняются, смежные периоды разрешены")
+    void overlappingPeriodsAreRejected() {
+        assertThat(bookingOverlapGuard).isInstanceOf(InMemoryBookingOverlapGuard.class);
+        BookingDto approved = create(start, start.plusHours(2));
+        bookingService.bookingApproved(ownerId, approved.getId(), true);
+
+        assertThatThrownBy(() -> create(start.minusHours(1), start.plusHours(1)))
+                .isInstanceOf(ConflictException.class);
+        assertThatThrownBy(() -> create(start.plusMinutes(30), start.plusHours(1)))
+                .isInstanceOf(ConflictException.class);
+        assertThat(create(start.minusHours(1), start).getStatus()).isEqualTo(BookingStatus.WAITING);
+        assertThat(create(start.plusHours(2), start.plusHours(3)).getStatus()).isEqualTo(BookingStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("Интервалы в памяти: из одновременно одобряемых пересекающихся бронирований проходит одно")
+    void concurrentApprovalsApproveOnlyOne() throws Exception {
+        BookingDto first = create(start, start.plusHours(2));
+        BookingDto second = create(start.plusHours(1), start.plusHours(3));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<BookingDto>> results = executor.invokeAll(List.<Callable<BookingDto>>of(
+                    () -> bookingService.bookingApproved(ownerId, first.getId(), true),
+                    () -> bookingService.bookingApproved(ownerId, second.getId(), true)));
+            int approved = 0;
+            for (Future<BookingDto> result : results) {
+                try {
+                    result.get();
+                    approved++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(ConflictException.class);
+                }
+            }
+            assertThat(approved).isEqualTo(1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private BookingDto create(LocalDateTime from, LocalDateTime to) {
+        return bookingService.createBooking(bookerId, new BookingCreationDto(itemId, from, to));
+    }
+}
@@ -0,0 +1,87 @@
+package ru.practicum.shareit.booking;
+
+import jakarta.validation.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingCreationDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.booking.status.BookingStatusUpdater;
+import ru.practicum.shareit.booking.status.JpqlBookingStatusUpdater;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "shareit.booking.status-update=update")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class JpqlBookingStatusUpdaterTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private BookingStatusUpdater bookingStatusUpdater;
+
+    private Long bookerId;
+    private Long ownerId;
+    private Long itemId;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        bookerId = userService.create(new UserDto(null, "Booker", "jpql-booker@mail.ru")).getId();
+        ownerId = userService.create(new UserDto(null, "Owner", "jpql-owner@mail.ru")).getId();
+        itemId = itemService.create(new ItemCreateDto("Дрель", "Ударная", true, null), ownerId).getId();
+        start = LocalDateTime.now().plusDays(1);
+    }
+
+    @Test
+    @DisplayName("Переносимый UPDATE: реализация выбрана свойством, одобрение и отклонение")
+    void approveAndReject() {
+        assertThat(bookingStatusUpdater).isInstanceOf(JpqlBookingStatusUpdater.class);
+        BookingDto approved = create(start, start.plusHours(1));
+        BookingDto rejected = create(start.plusHours(1), start.plusHours(2));
+
+        BookingDto result = bookingService.bookingApproved(ownerId, approved.getId(), true);
+
+        assertThat(result.getStatus()).isEqualTo(BookingStatus.APPROVED);
+        assertThat(result.getItem().getId()).isEqualTo(itemId);
+        assertThat(result.getBooker().getId()).isEqualTo(bookerId);
+        assertThat(bookingService.bookingApproved(ownerId, rejected.getId(), false).getStatus())
+                .isEqualTo(BookingStatus.REJECTED);
+    }
+
+    @Test
+    @DisplayName("Переносимый UPDATE: не владелец и повторное решение не меняют статус")
+    void rejectsForeignAndDecidedBookings() {
+        BookingDto booking = create(start, start.plusHours(1));
+
+        assertThatThrownBy(() -> bookingService.bookingApproved(bookerId, booking.getId(), true))
+                .isInstanceOf(ValidationException.class);
+        bookingService.bookingApproved(ownerId, booking.getId(), true);
+        assertThatThrownBy(() -> bookingService.bookingApproved(ownerId, booking.getId(), false))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(bookingService.getBooking(bookerId, booking.getId()).getStatus()).isEqualTo(BookingStatus.APPROVED);
+    }
+
+    private BookingDto create(LocalDateTime from, LocalDateTime to) {
+        return bookingService.createBooking(bookerId, new BookingCreationDto(itemId, from, to));
+    }
+}
@@ -0,0 +1,59 @@
+package ru.practicum.shareit.context;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingCreationDto;
+import ru.practicum.shareit.diagnostics.QueryCountFilter;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "shareit.diagnostics.query-count-header=true")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@ActiveProfiles("test")
+class EntityContextIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Получение вещи владельцем: пользователь загружается один раз, число запросов в заголовке")
+    void getItem_byOwner_shouldLoadOwnerOnce() throws Exception {
+        // пользователь, вещь, отзывы с авторами, последнее и следующее бронирование; владелец берется из контекста
+        mockMvc.perform(get("/items/1")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountFilter.HEADER, "7"));
+    }
+
+    @Test
+    @DisplayName("Создание бронирования: пользователь загружается один раз, число запросов в заголовке")
+    void createBooking_shouldLoadBookerOnce() throws Exception {
+        // пользователь, вещь, проверка пересечений, блок id из последовательности (первое бронирование в контексте),
+        // insert нового бронирования (без id и версии оно сохраняется persist, без предварительного select)
+        BookingCreationDto dto = new BookingCreationDto(2L, LocalDateTime.now().plusDays(5), LocalDateTime.now().plusDays(6));
+
+        mockMvc.perform(post("/bookings")
+                        .header("X-Sharer-User-Id", 4L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountFilter.HEADER, "5"));
+    }
+}
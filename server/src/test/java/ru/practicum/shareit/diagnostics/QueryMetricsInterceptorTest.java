@@ -0,0 +1,58 @@
+package ru.practicum.shareit.diagnostics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "shareit.diagnostics.query-budget.endpoints[ItemRequestController.getRequestById]=0")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@ActiveProfiles("test")
+class QueryMetricsInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Метрики SQL: число операторов записывается с тегом обработчика")
+    void request_shouldRecordStatementsPerHandler() throws Exception {
+        mockMvc.perform(get("/users/1"))
+                .andExpect(status().isOk());
+
+        DistributionSummary summary = meterRegistry.find(QueryMetricsInterceptor.METRIC)
+                .tag("handler", "UserController.getUser")
+                .summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Метрики SQL: превышение бюджета в строгом режиме завершает запрос исключением")
+    void request_whenBudgetExceeded_shouldFail() {
+        assertThatThrownBy(() -> mockMvc.perform(get("/requests/1")))
+                .isInstanceOf(ServletException.class)
+                .hasCauseInstanceOf(QueryBudgetExceededException.class);
+
+        assertThat(meterRegistry.find(QueryMetricsInterceptor.EXCEEDED_METRIC)
+                .tag("handler", "ItemRequestController.getRequestById")
+                .counter())
+                .isNotNull();
+    }
+}
@@ -19,7 +19,7 @@ class CommentMapperTest {
     @DisplayName("Конвертация CommentDto в Comment со всеми заполненными полями")
     void testToComment_withAllFieldsFilled() {
         LocalDateTime now = LocalDateTime.now();
-        Item item = new Item(1L, "Item", "desc", true, null, null);
+        Item item = new Item(1L, "Item", "desc", true, null, null, null);
         User author = new User(10L, "User", "user@example.com");
         CommentDto dto = new CommentDto("Great item!");
 
@@ -75,7 +75,7 @@ class CommentMapperTest {
     @DisplayName("Конвертация Comment в CommentResponseDto с данными")
     void testToCommentResponseDto_withValidData() {
         LocalDateTime now = LocalDateTime.now();
-        Item item = new Item(1L, "Item", "desc", true, null, null);
+        Item item = new Item(1L, "Item", "desc", true, null, null, null);
         User author = new User(10L, "AuthorName", "email@example.com");
 
         Comment comment = new Comment();
@@ -0,0 +1,101 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.search.InMemoryItemSearchEngine;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "shareit.search.engine=index")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class InMemoryItemSearchEngineTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ItemSearchEngine itemSearchEngine;
+
+    private Long ownerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = userService.create(new UserDto(null, "Owner", "index-owner@mail.ru")).getId();
+    }
+
+    @Test
+    @DisplayName("Индекс в памяти выбран свойством и содержит данные, загруженные при старте")
+    void engineIsBuiltFromTable() {
+        assertThat(itemSearchEngine).isInstanceOf(InMemoryItemSearchEngine.class);
+
+        assertThat(itemService.itemSearch("велосипед")).extracting(ItemDto::getName).containsExactly("Велосипед");
+    }
+
+    @Test
+    @DisplayName("Индекс в памяти: новые вещи находятся по подстроке, совпадения в названии выше")
+    void createdItemsAreSearchable() {
+        ItemDto inDescription = itemService.create(new ItemCreateDto("Лампа", "Настольная дрель-лампа", true, null), ownerId);
+        ItemDto inName = itemService.create(new ItemCreateDto("Ударная дрель", "Bosch", true, null), ownerId);
+        ItemDto exact = itemService.create(new ItemCreateDto("Дрель", "Makita", true, null), ownerId);
+
+        List<ItemDto> result = itemService.itemSearch("ДРЕЛ", 0, 10);
+
+        assertThat(result).extracting(ItemDto::getId).containsExactly(exact.getId(), inName.getId(), inDescription.getId());
+        assertThat(itemService.itemSearch("дрель", 1, 1)).extracting(ItemDto::getId).containsExactly(inName.getId());
+        assertThat(itemService.itemSearch("др", 0, 10)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Индекс в памяти: изменение названия и доступности учитывается")
+    void updatedItemsAreReindexed() {
+        ItemDto item = itemService.create(new ItemCreateDto("Палатка", "Двухместная", true, null), ownerId);
+
+        itemService.update(new ItemCreateDto("Шатер", null, null, null), ownerId, item.getId());
+        assertThat(itemService.itemSearch("палатка")).isEmpty();
+        assertThat(itemService.itemSearch("шатер")).extracting(ItemDto::getId).containsExactly(item.getId());
+
+        itemService.update(new ItemCreateDto(null, null, false, null), ownerId, item.getId());
+        assertThat(itemService.itemSearch("шатер")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Индекс в памяти: вещь возвращается в выдачу после повторного включения доступности")
+    void availabilityFlipsAreReindexed() {
+        ItemDto item = itemService.create(new ItemCreateDto("Лодка", "Надувная", false, null), ownerId);
+        assertThat(itemService.itemSearch("надувн")).isEmpty();
+
+        itemService.update(new ItemCreateDto(null, "Резиновая", true, null), ownerId, item.getId());
+
+        assertThat(itemService.itemSearch("надувн")).isEmpty();
+        assertThat(itemService.itemSearch("резинов")).extracting(ItemDto::getId).containsExactly(item.getId());
+        assertThat(itemService.itemSearch("лод")).extracting(ItemDto::getId).containsExactly(item.getId());
+    }
+
+    @Test
+    @DisplayName("Индекс в памяти: запрос короче n-граммы находится перебором с тем же ранжированием")
+    void shortQueriesScanAllAvailableItems() {
+        ItemDto inDescription = itemService.create(new ItemCreateDto("Фонарь", "Налобный, ёмкость 2 ч", true, null), ownerId);
+        ItemDto inName = itemService.create(new ItemCreateDto("Ёлка", "Искусственная", true, null), ownerId);
+        ItemDto exact = itemService.create(new ItemCreateDto("Ё", "Буква", true, null), ownerId);
+        itemService.create(new ItemCreateDto("Ёж", "Недоступен", false, null), ownerId);
+
+        assertThat(itemService.itemSearch("ё", 0, 10)).extracting(ItemDto::getId)
+                .containsExactly(exact.getId(), inName.getId(), inDescription.getId());
+        assertThat(itemService.itemSearch("ёл", 0, 10)).extracting(ItemDto::getId).containsExactly(inName.getId());
+    }
+}
@@ -0,0 +1,160 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.booking.dto.BookingCreationDto;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.service.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.AvailabilityWindowDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.service.ItemAvailabilityService;
+import ru.practicum.shareit.item.service.ItemAvailabilityServiceImpl;
+import ru.practicum.shareit.item.service.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.service.UserService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ItemAvailabilityServiceImplTest {
+
+    @Autowired
+    private ItemAvailabilityService availabilityService;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private Long ownerId;
+    private Long bookerId;
+    private Long itemId;
+    private LocalDateTime day;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = userService.create(new UserDto(null, "Owner", "calendar-owner@mail.ru")).getId();
+        bookerId = userService.create(new UserDto(null, "Booker", "calendar-booker@mail.ru")).getId();
+        itemId = itemService.create(new ItemCreateDto("Палатка", "Четырехместная", true, null), ownerId).getId();
+        day = LocalDateTime.now().plusDays(2).truncatedTo(ChronoUnit.DAYS);
+    }
+
+    @Test
+    @DisplayName("Свободные окна: подтвержденные бронирования вычитаются из периода, ожидающие — по запросу")
+    void getAvailability_shouldSubtractBusyIntervals() {
+        BookingDto approved = book(day.plusHours(10), day.plusHours(12));
+        bookingService.bookingApproved(ownerId, approved.getId(), true);
+        book(day.plusHours(15), day.plusHours(16));
+
+        ItemAvailabilityDto onlyApproved = availabilityService.getAvailability(itemId, day, day.plusDays(1), false);
+        assertThat(onlyApproved.getFreeWindows()).containsExactly(
+                new AvailabilityWindowDto(day, day.plusHours(10)),
+                new AvailabilityWindowDto(day.plusHours(12), day.plusDays(1)));
+
+        ItemAvailabilityDto withWaiting = availabilityService.getAvailability(itemId, day.plusHours(11), day.plusDays(1), true);
+        assertThat(withWaiting.getFreeWindows()).containsExactly(
+                new AvailabilityWindowDto(day.plusHours(12), day.plusHours(15)),
+                new AvailabilityWindowDto(day.plusHours(16), day.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Свободные окна: кэш сбрасывается при подтверждении бронирования")
+    void getAvailability_afterApproval_shouldReflectNewBooking() {
+        assertThat(availabilityService.getAvailability(itemId, day, day.plusDays(1), false).getFreeWindows())
+                .containsExactly(new AvailabilityWindowDto(day, day.plusDays(1)));
+
+        BookingDto booking = book(day, day.plusHours(8));
+        bookingService.bookingApproved(ownerId, booking.getId(), true);
+
+        assertThat(availabilityService.getAvailability(itemId, day, day.plusDays(1), false).getFreeWindows())
+                .containsExactly(new AvailabilityWindowDto(day.plusHours(8), day.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Свободные окна: кэш сбрасывается при удалении пользователя вместе с его бронированиями и вещами")
+    void getAvailability_afterUserDeletion_shouldReflectCascade() {
+        BookingDto booking = book(day, day.plusHours(8));
+        bookingService.bookingApproved(ownerId, booking.getId(), true);
+        assertThat(availabilityService.getAvailability(itemId, day, day.plusDays(1), false).getFreeWindows())
+                .containsExactly(new AvailabilityWindowDto(day.plusHours(8), day.plusDays(1)));
+
+        userService.delete(bookerId);
+
+        assertThat(availabilityService.getAvailability(itemId, day, day.plusDays(1), false).getFreeWindows())
+                .containsExactly(new AvailabilityWindowDto(day, day.plusDays(1)));
+
+        userService.delete(ownerId);
+
+        assertThatThrownBy(() -> availabilityService.getAvailability(itemId, day, day.plusDays(1), false))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Свободные окна: интервалы, загруженные до параллельного подтверждения, не остаются в кэше")
+    void getAvailability_whenApprovedDuringLoad_shouldNotCacheStaleIntervals() {
+        AtomicBoolean first = new AtomicBoolean(true);
+        ItemAvailabilityServiceImpl[] service = new ItemAvailabilityServiceImpl[1];
+        BookingRepository repository = (BookingRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{BookingRepository.class}, (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(bookingRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("findBusyIntervals") && first.getAndSet(false)) {
+                        // бронирование подтверждается и сбрасывает кэш между чтением из базы и записью в кэш
+                        BookingDto booking = book(day, day.plusHours(8));
+                        bookingService.bookingApproved(ownerId, booking.getId(), true);
+                        service[0].invalidate(itemId);
+                    }
+                    return result;
+                });
+        service[0] = new ItemAvailabilityServiceImpl(itemRepository, repository, 100);
+
+        assertThat(service[0].getAvailability(itemId, day, day.plusDays(1), false).getFreeWindows())
+                .containsExactly(new AvailabilityWindowDto(day, day.plusDays(1)));
+
+        assertThat(service[0].getAvailability(itemId, day, day.plusDays(1), false).getFreeWindows())
+                .containsExactly(new AvailabilityWindowDto(day.plusHours(8), day.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Свободные окна: вещь не найдена или период некорректен")
+    void getAvailability_whenInvalid_shouldThrowException() {
+        assertThatThrownBy(() -> availabilityService.getAvailability(999L, day, day.plusDays(1), false))
+                .isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> availabilityService.getAvailability(itemId, day, day, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private BookingDto book(LocalDateTime start, LocalDateTime end) {
+        return bookingService.createBooking(bookerId, new BookingCreationDto(itemId, start, end));
+    }
+}
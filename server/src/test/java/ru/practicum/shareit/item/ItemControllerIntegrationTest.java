@@ -9,11 +9,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
-import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemCreateDto;
 
+import java.util.List;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -22,8 +23,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @ActiveProfiles("test")
-@Sql("/schema.sql")
-@Sql("/data.sql")
 public class ItemControllerIntegrationTest {
 
     @Autowired
@@ -249,4 +248,43 @@ public class ItemControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(dto)))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Импорт вещей. Строки сохраняются, строка с несуществующим requestId отклоняется")
+    void createAll_Success() throws Exception {
+        List<ItemCreateDto> items = List.of(
+                new ItemCreateDto("Дрель", "Ударная дрель", true, null),
+                new ItemCreateDto("Чемодан", "Чемодан на колесах", true, 1L),
+                new ItemCreateDto("Палатка", "Палатка на двоих", false, 999L));
+
+        mockMvc.perform(post("/items/bulk")
+                        .header("X-Sharer-User-Id", USER_ID_4)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(items)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].row").value(1))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[1].id").isNumber())
+                .andExpect(jsonPath("$[2].id").doesNotExist())
+                .andExpect(jsonPath("$[2].error").value("Запрос не найден"));
+
+        mockMvc.perform(get("/items")
+                        .header("X-Sharer-User-Id", USER_ID_4))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].requestId").value(1));
+    }
+
+    @Test
+    @DisplayName("Импорт вещей. Пользователь не найден")
+    void createAll_UserNotFound() throws Exception {
+        List<ItemCreateDto> items = List.of(new ItemCreateDto("Дрель", "Ударная дрель", true, null));
+
+        mockMvc.perform(post("/items/bulk")
+                        .header("X-Sharer-User-Id", 999L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(items)))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -46,7 +46,7 @@ class ItemMapperTest {
     @Test
     @DisplayName("Конвертация в ItemFullDto со всеми полями")
     void testToFullItem_withAllFields() {
-        Item item = new Item(1L, "Item", "desc", true, null, null);
+        Item item = new Item(1L, "Item", "desc", true, null, null, null);
         BookingCreationDto lastBooking = new BookingCreationDto(1L, LocalDateTime.now(), LocalDateTime.now().plusDays(1));
         BookingCreationDto nextBooking = new BookingCreationDto(2L, LocalDateTime.now().plusDays(2), LocalDateTime.now().plusDays(3));
         List<CommentDto> comments = List.of(new CommentDto("Great!"));
@@ -77,7 +77,7 @@ class ItemMapperTest {
     @Test
     @DisplayName("Конвертация Item в ItemDtoForRequest с данными")
     void testToItemDtoForRequest_withValidItem() {
-        Item item = new Item(1L, "Item", "desc", true, 10L, null);
+        Item item = new Item(1L, "Item", "desc", true, 10L, null, null);
 
         ItemDtoForRequest dto = ItemMapper.INSTANCE.toItemDtoForRequest(item);
 
@@ -103,7 +103,7 @@ class ItemMapperTest {
     @Test
     @DisplayName("Конвертация Item в ItemDto с requestId")
     void testToItemDto_withRequestId() {
-        Item item = new Item(1L, "Item", "desc", true, 5L, null);
+        Item item = new Item(1L, "Item", "desc", true, 5L, null, null);
 
         ItemDto dto = ItemMapper.INSTANCE.toItemDto(item);
 
@@ -118,7 +118,7 @@ class ItemMapperTest {
     @Test
     @DisplayName("Конвертация Item в ItemDto без requestId")
     void testToItemDto_withNullRequest() {
-        Item item = new Item(1L, "Item", "desc", true, null, null);
+        Item item = new Item(1L, "Item", "desc", true, null, null, null);
 
         ItemDto dto = ItemMapper.INSTANCE.toItemDto(item);
 
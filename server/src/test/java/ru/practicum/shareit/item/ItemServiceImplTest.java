@@ -12,7 +12,9 @@ import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.service.BookingRepository;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.dto.*;
+import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.CommentsRepository;
 import ru.practicum.shareit.item.service.ItemRepository;
 import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.request.model.ItemRequest;
@@ -45,6 +47,9 @@ public class ItemServiceImplTest {
     @Autowired
     private BookingRepository bookingRepository;
 
+    @Autowired
+    private CommentsRepository commentsRepository;
+
     private Long ownerId;
     private Long requestId;
 
@@ -137,7 +142,7 @@ public class ItemServiceImplTest {
     @DisplayName("Ошибка: обновление чужого предмета")
     @Test
     void updateItem_NotOwner_ThrowsNotFoundException() {
-        Item item = new Item(1L, "Item", "Description", false, ownerId, null);
+        Item item = new Item(null, "Item", "Description", false, ownerId, null, null);
         Long id = itemRepository.save(item).getId();
 
         ItemCreateDto dto = new ItemCreateDto();
@@ -190,6 +195,40 @@ public class ItemServiceImplTest {
         assertThat(result).hasSize(2);
     }
 
+    @DisplayName("Получение всех предметов владельца с бронированиями и комментариями")
+    @Test
+    void getFullItemsForOwner() {
+        User booker = userRepository.save(new User(null, "Booker", "booker@example.com"));
+        Item booked = itemRepository.save(new Item(null, "Booked", "Has bookings", true, ownerId, null, null));
+        Item commented = itemRepository.save(new Item(null, "Commented", "Has comments", true, ownerId, null, null));
+        LocalDateTime now = LocalDateTime.now();
+        bookingRepository.save(new Booking(null, now.minusDays(5), now.minusDays(4), booked, booker, BookingStatus.APPROVED, null));
+        bookingRepository.save(new Booking(null, now.minusDays(3), now.minusDays(2), booked, booker, BookingStatus.APPROVED, null));
+        bookingRepository.save(new Booking(null, now.plusDays(2), now.plusDays(3), booked, booker, BookingStatus.APPROVED, null));
+        bookingRepository.save(new Booking(null, now.plusDays(1), now.plusDays(2), booked, booker, BookingStatus.REJECTED, null));
+        commentsRepository.save(new Comment(null, "Nice", commented, booker, now));
+
+        List<ItemFullDto> result = itemService.getFullItemsForOwner(ownerId);
+
+        assertThat(result).extracting(ItemFullDto::getId).containsExactly(booked.getId(), commented.getId());
+        ItemFullDto first = result.get(0);
+        assertEquals(booked.getId(), first.getLastBooking().getItemId());
+        assertThat(first.getLastBooking().getStart()).isBefore(now.minusDays(2)).isAfter(now.minusDays(4));
+        assertThat(first.getNextBooking().getStart()).isAfter(now.plusDays(1)).isBefore(now.plusDays(3));
+        assertThat(first.getComments()).isEmpty();
+        ItemFullDto second = result.get(1);
+        assertNull(second.getLastBooking());
+        assertNull(second.getNextBooking());
+        assertThat(second.getComments()).extracting(CommentDto::getText).containsExactly("Nice");
+        assertEquals(ownerId, second.getOwner().getId());
+    }
+
+    @DisplayName("Ошибка: владелец не найден при получении предметов с бронированиями")
+    @Test
+    void getFullItemsForOwner_UserNotFound_ThrowsNotFoundException() {
+        assertThrows(NotFoundException.class, () -> itemService.getFullItemsForOwner(999L));
+    }
+
     @DisplayName("Поиск предметов по тексту")
     @Test
     void searchItemsByText() {
@@ -212,6 +251,24 @@ public class ItemServiceImplTest {
         assertEquals("Table", result.get(0).getName());
     }
 
+    @DisplayName("Поиск предметов: совпадения в названии выше, постраничная выдача")
+    @Test
+    void searchItemsOrderedByRelevanceWithPaging() {
+        Item inDescription = itemRepository.save(new Item(null, "Desk", "Lamp table", true, ownerId, null, null));
+        Item inName = itemRepository.save(new Item(null, "Big table", "Oak", true, ownerId, null, null));
+        Item exact = itemRepository.save(new Item(null, "Table", "Pine", true, ownerId, null, null));
+        itemRepository.save(new Item(null, "Table 100%", "Unavailable", false, ownerId, null, null));
+
+        List<ItemDto> firstPage = itemService.itemSearch(" TABLE ", 0, 2);
+        List<ItemDto> secondPage = itemService.itemSearch("table", 2, 2);
+
+        assertThat(firstPage).extracting(ItemDto::getId).containsExactly(exact.getId(), inName.getId());
+        assertThat(secondPage).extracting(ItemDto::getId).containsExactly(inDescription.getId());
+        assertThat(itemService.itemSearch("table", 1, 2)).extracting(ItemDto::getId)
+                .containsExactly(inName.getId(), inDescription.getId());
+        assertThat(itemService.itemSearch("100%", 0, 10)).isEmpty();
+    }
+
     @DisplayName("Добавление комментария к предмету")
     @Test
     void addCommentToItem() {
@@ -244,6 +301,33 @@ public class ItemServiceImplTest {
         assertEquals(user.getName(), result.getAuthorName());
     }
 
+    @DisplayName("Добавление двух комментариев: оба сохраняются, существующие комментарии не меняются")
+    @Test
+    void addTwoCommentsToItem() {
+        List<String> existing = commentsRepository.findAll().stream().map(Comment::getText).toList();
+        User user = new User();
+        user.setName("Commenter");
+        user.setEmail("commenter@example.com");
+        Long userId = userRepository.save(user).getId();
+
+        Item item = itemRepository.save(new Item(null, "CommentedItem", "Can comment", true, ownerId, null, null));
+        bookingRepository.save(new Booking(null, LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1),
+                item, user, BookingStatus.APPROVED, null));
+
+        CommentDto first = new CommentDto();
+        first.setText("Great item!");
+        CommentDto second = new CommentDto();
+        second.setText("Still great");
+        CommentResponseDto firstResult = itemService.addCommentToItem(userId, item.getId(), first);
+        CommentResponseDto secondResult = itemService.addCommentToItem(userId, item.getId(), second);
+
+        assertNotEquals(firstResult.getId(), secondResult.getId());
+        assertThat(commentsRepository.findAll()).extracting(Comment::getText)
+                .containsAll(existing)
+                .contains("Great item!", "Still great")
+                .hasSize(existing.size() + 2);
+    }
+
     @DisplayName("Ошибка: пользователь не брал вещь в аренду")
     @Test
     void addComment_UserDidNotBookItem_ThrowsValidationException() {
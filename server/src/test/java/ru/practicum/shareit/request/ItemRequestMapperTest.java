@@ -24,8 +24,8 @@ class ItemRequestMapperTest {
         Long requesterId = 10L;
         LocalDateTime created = LocalDateTime.now();
         List<Item> items = List.of(
-                new Item(1L, "Chair", "A wooden chair", true, null, null),
-                new Item(2L, "Table", "A small table", true, null, null)
+                new Item(1L, "Chair", "A wooden chair", true, null, null, null),
+                new Item(2L, "Table", "A small table", true, null, null, null)
         );
 
         ItemRequest request = ItemRequestMapper.INSTANCE.toItemRequest(id, dto, requesterId, created, items);
@@ -6,7 +6,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
+import ru.practicum.shareit.diagnostics.QueryCounter;
 import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.dto.ItemDtoForRequest;
+import ru.practicum.shareit.item.service.ItemService;
 import ru.practicum.shareit.request.dto.ItemRequestAnswerDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.model.ItemRequest;
@@ -35,6 +39,12 @@ class ItemRequestServiceImplTest {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
     private LocalDateTime now;
     private UserDto user;
     private Long userId;
@@ -148,6 +158,26 @@ class ItemRequestServiceImplTest {
         assertThat(result).hasSize(2);
     }
 
+    @Test
+    @DisplayName("Получение всех запросов: ответы читаются одним запросом для всей страницы")
+    void getAllRequests_shouldLoadItemsForPageAtOnce() {
+        Long ownerId = userService.create(new UserDto(null, "Owner", "owner@mail.ru")).getId();
+        for (int i = 0; i < 3; i++) {
+            Long requestId = itemRequestService.create(new ItemRequestDto("Request " + i), userId).getId();
+            itemService.create(new ItemCreateDto("Item " + i, "Description", true, requestId), ownerId);
+        }
+        itemRequestService.create(new ItemRequestDto("Without answers"), userId);
+
+        queryCounter.reset();
+        List<ItemRequestAnswerDto> result = itemRequestService.getAllRequests(4, 0);
+
+        assertThat(queryCounter.count()).isEqualTo(2);
+        assertThat(result).hasSize(4);
+        assertThat(result.get(0).getItems()).isEmpty();
+        assertThat(result.get(1).getItems()).extracting(ItemDtoForRequest::getName, ItemDtoForRequest::getOwner)
+                .containsExactly(tuple("Item 2", ownerId));
+    }
+
     @Test
     @DisplayName("Получение запроса по ID: запрос существует")
     void getRequest_whenExists_shouldReturnDto() {
@@ -0,0 +1,138 @@
+package ru.practicum.shareit.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.exception.ConflictException;
+import ru.practicum.shareit.item.dto.ItemCreateDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.search.ItemSearchEngine;
+import ru.practicum.shareit.item.service.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.service.UserRepository;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest(properties = {"shareit.retry.initial-backoff=0ms", "shareit.retry.max-attempts=3"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ConflictRetryTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @SpyBean
+    private ItemSearchEngine itemSearchEngine;
+
+    private Long ownerId;
+    private Long itemId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setName("Owner");
+        user.setEmail("owner@example.com");
+        ownerId = userRepository.save(user).getId();
+        itemId = itemRepository.save(Item.builder().name("Дрель").description("Ударная дрель").available(true)
+                .owner(ownerId).build()).getId();
+    }
+
+    /**
+     * Перед фиксацией транзакции {@code update} другой поток успевает изменить ту же вещь
+     * в первых {@code conflicts} попытках.
+     */
+    private void concurrentUpdates(int conflicts) {
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.incrementAndGet() <= conflicts) {
+                CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+                    Item item = itemRepository.findById(itemId).orElseThrow();
+                    item.setDescription("Изменено параллельно " + calls.get());
+                })).join();
+            }
+            return invocation.callRealMethod();
+        }).when(itemSearchEngine).index(any(Item.class));
+    }
+
+    private double conflicts(String outcome) {
+        Counter counter = meterRegistry.find(ConflictRetryAspect.METRIC)
+                .tag("method", "ItemServiceImpl.update")
+                .tag("outcome", outcome)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private ItemCreateDto rename(String name) {
+        ItemCreateDto dto = new ItemCreateDto();
+        dto.setName(name);
+        return dto;
+    }
+
+    @Test
+    @DisplayName("Версия вещи увеличивается при изменении, устаревшая копия не перезаписывает данные")
+    void update_shouldRejectStaleCopy() {
+        Item stale = itemRepository.findById(itemId).orElseThrow();
+
+        itemService.update(rename("Перфоратор"), ownerId, itemId);
+
+        Item current = itemRepository.findById(itemId).orElseThrow();
+        assertThat(current.getVersion()).isEqualTo(stale.getVersion() + 1);
+        stale.setDescription("Устаревшее описание");
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> itemRepository.save(stale));
+        assertThat(itemRepository.findById(itemId).orElseThrow().getName()).isEqualTo("Перфоратор");
+    }
+
+    @Test
+    @DisplayName("Конфликт версий: изменение повторяется и сохраняет обе правки")
+    void update_whenConcurrentlyModified_shouldRetry() {
+        concurrentUpdates(1);
+
+        ItemDto updated = itemService.update(rename("Перфоратор"), ownerId, itemId);
+
+        assertThat(updated.getName()).isEqualTo("Перфоратор");
+        Item item = itemRepository.findById(itemId).orElseThrow();
+        assertThat(item.getName()).isEqualTo("Перфоратор");
+        assertThat(item.getDescription()).isEqualTo("Изменено параллельно 1");
+        assertThat(conflicts("retried")).isEqualTo(1);
+        assertThat(conflicts("exhausted")).isZero();
+    }
+
+    @Test
+    @DisplayName("Конфликт версий: после исчерпания попыток возвращается ConflictException")
+    void update_whenConflictsPersist_shouldThrowConflict() {
+        concurrentUpdates(Integer.MAX_VALUE);
+
+        assertThrows(ConflictException.class, () -> itemService.update(rename("Перфоратор"), ownerId, itemId));
+
+        assertThat(itemRepository.findById(itemId).orElseThrow().getName()).isEqualTo("Дрель");
+        assertThat(conflicts("retried")).isEqualTo(2);
+        assertThat(conflicts("exhausted")).isEqualTo(1);
+    }
+}
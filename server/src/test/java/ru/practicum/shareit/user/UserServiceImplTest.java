@@ -1,12 +1,15 @@
 package ru.practicum.shareit.user;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.web.server.ResponseStatusException;
+import ru.practicum.shareit.config.CacheConfig;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.service.UserRepository;
@@ -27,6 +30,12 @@ class UserServiceImplTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private UserDto userDto;
 
     @BeforeEach
@@ -124,4 +133,22 @@ class UserServiceImplTest {
         Long nonExistentId = 999L;
         assertThrows(NotFoundException.class, () -> userService.delete(nonExistentId));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Кэш пользователей: чтение заполняет кэш, обновление и удаление сбрасывают запись")
+    void cache_IsFilledOnReadAndEvictedOnWrite() {
+        UserDto created = userService.create(userDto);
+
+        userService.getUser(created.getId());
+        assertNotNull(cacheManager.getCache(CacheConfig.USERS).get(created.getId()));
+
+        userService.update(new UserDto(null, "Bob", null), created.getId());
+        assertNull(cacheManager.getCache(CacheConfig.USERS).get(created.getId()));
+        assertEquals("Bob", userService.getUser(created.getId()).getName());
+
+        userService.delete(created.getId());
+        assertThrows(NotFoundException.class, () -> userService.getUser(created.getId()));
+        assertThat(meterRegistry.find("cache.gets").tag("cache", CacheConfig.USERS).tag("result", "hit").functionCounter())
+                .isNotNull();
+    }
+}